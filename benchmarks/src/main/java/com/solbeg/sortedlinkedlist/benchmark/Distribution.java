@@ -0,0 +1,37 @@
+package com.solbeg.sortedlinkedlist.benchmark;
+
+import java.util.Random;
+
+public enum Distribution {
+    RANDOM,
+    ASCENDING,
+    DESCENDING,
+    DUPLICATES,
+    NULLS;
+
+    private static final int DISTINCT_DUPLICATES = 16;
+
+    //null stands for a null item
+    Integer[] generate(int size, Random random) {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = next(i, size, random);
+        }
+        return values;
+    }
+
+    Integer next(int i, int size, Random random) {
+        switch (this) {
+            case ASCENDING:
+                return i;
+            case DESCENDING:
+                return size - i;
+            case DUPLICATES:
+                return random.nextInt(DISTINCT_DUPLICATES);
+            case NULLS:
+                return random.nextBoolean() ? null : random.nextInt(size);
+            default:
+                return random.nextInt(size);
+        }
+    }
+}
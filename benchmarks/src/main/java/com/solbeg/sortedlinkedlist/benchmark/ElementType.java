@@ -0,0 +1,15 @@
+package com.solbeg.sortedlinkedlist.benchmark;
+
+public enum ElementType {
+    INTEGER,
+    STRING;
+
+    @SuppressWarnings("rawtypes")
+    Comparable convert(Integer value) {
+        if (value == null) {
+            return null;
+        }
+        //zero padded, so strings order the same way as the numbers they were made from
+        return this == INTEGER ? value : String.format("item-%010d", value);
+    }
+}
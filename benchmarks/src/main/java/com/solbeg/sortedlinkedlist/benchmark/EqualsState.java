@@ -0,0 +1,24 @@
+package com.solbeg.sortedlinkedlist.benchmark;
+
+import com.solbeg.sortedlinkedlist.SortedLinkedList;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+//a second list with equal items, only built for the equals benchmark
+@State(Scope.Benchmark)
+@SuppressWarnings("rawtypes")
+public class EqualsState {
+
+    public SortedLinkedList list;
+    public SortedLinkedList copy;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp(ListState state) {
+        list = state.list;
+        copy = state.newList();
+        copy.addAll(state.items);
+    }
+}
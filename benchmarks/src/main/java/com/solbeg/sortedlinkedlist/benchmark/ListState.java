@@ -0,0 +1,82 @@
+package com.solbeg.sortedlinkedlist.benchmark;
+
+import com.solbeg.sortedlinkedlist.AddNullsStrategy;
+import com.solbeg.sortedlinkedlist.SortedLinkedList;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+@State(Scope.Benchmark)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ListState {
+
+    private static final int PROBES = 1024;
+
+    //the defaults are a small set that a plain run gets through in about 20 minutes; widen it on the command line,
+    //every -p replaces the values of one parameter:
+    //  java -jar benchmarks/target/benchmarks.jar -p distribution=RANDOM,ASCENDING,DESCENDING,DUPLICATES,NULLS
+    //      -p elementType=INTEGER,STRING
+    //the nulls strategy only changes the NULLS distribution, and 10^7 items are only worth it for single
+    //operations, e.g.
+    //  java -jar benchmarks/target/benchmarks.jar "get|indexOf" -p size=10000000
+    //  java -jar benchmarks/target/benchmarks.jar -p distribution=NULLS
+    //      -p addNullsStrategy=TRAILING_NULLS,LEADING_NULLS
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public Distribution distribution;
+
+    @Param({"TRAILING_NULLS"})
+    public AddNullsStrategy addNullsStrategy;
+
+    @Param({"INTEGER"})
+    public ElementType elementType;
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    public List<Comparable> items;
+    public SortedLinkedList list;
+    public Comparable[] probes;
+    public int[] probeIndexes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(size);
+        Comparable[] converted = Arrays.stream(distribution.generate(size, random))
+                .map(elementType::convert)
+                .toArray(Comparable[]::new);
+        items = Arrays.asList(converted);
+        list = newList();
+        list.addAll(items);
+
+        probes = new Comparable[PROBES];
+        probeIndexes = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = elementType.convert(distribution.next(random.nextInt(size), size, random));
+            probeIndexes[i] = random.nextInt(size);
+        }
+    }
+
+    public SortedLinkedList newList() {
+        return new SortedLinkedList(addNullsStrategy, false, indexed);
+    }
+
+    public Comparable nextProbe() {
+        next = (next + 1) & (PROBES - 1);
+        return probes[next];
+    }
+
+    public int nextIndex() {
+        next = (next + 1) & (PROBES - 1);
+        return probeIndexes[next];
+    }
+}
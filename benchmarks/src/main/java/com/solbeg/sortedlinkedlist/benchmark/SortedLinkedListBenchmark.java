@@ -0,0 +1,83 @@
+package com.solbeg.sortedlinkedlist.benchmark;
+
+import com.solbeg.sortedlinkedlist.SortedLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+//throughput plus sampled latency percentiles for every list operation
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class SortedLinkedListBenchmark {
+
+    //the pair keeps the list size stable across invocations
+    @Benchmark
+    public Object addThenRemoveByValue(ListState state) {
+        Comparable probe = state.nextProbe();
+        state.list.add(probe);
+        return state.list.remove(probe);
+    }
+
+    @Benchmark
+    public Object removeByIndexThenAdd(ListState state) {
+        Object item = state.list.remove(state.nextIndex());
+        state.list.add(item);
+        return item;
+    }
+
+    @Benchmark
+    public Object get(ListState state) {
+        return state.list.get(state.nextIndex());
+    }
+
+    @Benchmark
+    public int indexOf(ListState state) {
+        return state.list.indexOf(state.nextProbe());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SortedLinkedList addAll(ListState state) {
+        SortedLinkedList list = state.newList();
+        list.addAll(state.items);
+        return list;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void iterator(ListState state, Blackhole blackhole) {
+        for (Object item : state.list) {
+            blackhole.consume(item);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long stream(ListState state) {
+        return state.list.stream().filter(Objects::nonNull).count();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long parallelStream(ListState state) {
+        return state.list.parallelStream().filter(Objects::nonNull).count();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean equalsAndHashCode(EqualsState state) {
+        return state.list.equals(state.copy) && state.list.hashCode() == state.copy.hashCode();
+    }
+}
@@ -0,0 +1,136 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+
+//lock-free sorted list: items live in a concurrent skip list, equal items are told apart by an insertion sequence
+public class ConcurrentSortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
+
+    //smaller than any sequence handed out, so a probe sorts before every entry holding an equal item
+    private static final long PROBE_SEQUENCE = Long.MIN_VALUE;
+
+    private final Comparator<T> comparator;
+    private final ConcurrentSkipListSet<Entry<T>> entries;
+    //sequences decrease, so a newly added item precedes the equal ones, as in SortedLinkedList
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder size = new LongAdder();
+
+    public ConcurrentSortedLinkedList() {
+        this(AddNullsStrategy.TRAILING_NULLS, false);
+    }
+
+    public ConcurrentSortedLinkedList(boolean reversed) {
+        this(AddNullsStrategy.TRAILING_NULLS, reversed);
+    }
+
+    public ConcurrentSortedLinkedList(AddNullsStrategy addNullsStrategy, boolean reversed) {
+        this.comparator = SortedLinkedList.createComparator(addNullsStrategy, reversed);
+        this.entries = new ConcurrentSkipListSet<>(this::compareEntries);
+    }
+
+    public ConcurrentSortedLinkedList(Collection<? extends T> collection) {
+        this();
+        addAll(collection);
+    }
+
+    //weakly consistent while other threads modify the list
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public boolean add(T item) {
+        entries.add(new Entry<>(item, sequence.decrementAndGet()));
+        size.increment();
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends T> collection) {
+        if (isNull(collection) || collection.isEmpty()) {
+            return false;
+        }
+        collection.forEach(this::add);
+        return true;
+    }
+
+    public boolean contains(T item) {
+        Entry<T> entry = entries.ceiling(new Entry<>(item, PROBE_SEQUENCE));
+        return entry != null && comparator.compare(item, entry.item) == 0;
+    }
+
+    public T remove(T item) {
+        Entry<T> probe = new Entry<>(item, PROBE_SEQUENCE);
+        while (true) {
+            Entry<T> entry = entries.ceiling(probe);
+            if (entry == null || comparator.compare(item, entry.item) != 0) {
+                return null;
+            }
+            //another thread may have removed the same entry in the meantime
+            if (entries.remove(entry)) {
+                size.decrement();
+                return entry.item;
+            }
+        }
+    }
+
+    public void clear() {
+        while (entries.pollFirst() != null) {
+            size.decrement();
+        }
+    }
+
+    public List<T> toList() {
+        List<T> result = new ArrayList<>();
+        forEach(result::add);
+        return result;
+    }
+
+    //weakly consistent: never throws ConcurrentModificationException and may or may not see concurrent updates
+    public Iterator<T> iterator() {
+        Iterator<Entry<T>> iterator = entries.iterator();
+        return new Iterator<>() {
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            public T next() {
+                return iterator.next().item;
+            }
+        };
+    }
+
+    public Stream<T> stream() {
+        return entries.stream().map(entry -> entry.item);
+    }
+
+    public Stream<T> parallelStream() {
+        return entries.parallelStream().map(entry -> entry.item);
+    }
+
+    private int compareEntries(Entry<T> e1, Entry<T> e2) {
+        int compareResult = comparator.compare(e1.item, e2.item);
+        return compareResult != 0 ? compareResult : Long.compare(e1.sequence, e2.sequence);
+    }
+
+    private static final class Entry<E> {
+        private final E item;
+        private final long sequence;
+
+        Entry(E item, long sequence) {
+            this.item = item;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+//thread-safe wrapper persisting a list as a snapshot file plus an operation log of the changes made since;
+//changes are applied in memory and handed to the log writer, call sync() where durability is required
+public class DurableSortedLinkedList<T extends Comparable<T>> implements Iterable<T>, Closeable {
+
+    private static final Duration DEFAULT_FSYNC_INTERVAL = Duration.ofSeconds(1);
+
+    private final SortedLinkedList<T> list;
+    private final OperationLog<T> log;
+    private final Path snapshotFile;
+    private final ElementCodec<T> codec;
+
+    private DurableSortedLinkedList(SortedLinkedList<T> list, OperationLog<T> log, Path snapshotFile,
+                                    ElementCodec<T> codec) {
+        this.list = list;
+        this.log = log;
+        this.snapshotFile = snapshotFile;
+        this.codec = codec;
+    }
+
+    public static <T extends Comparable<T>> DurableSortedLinkedList<T> open(Path snapshotFile, Path logFile,
+                                                                            ElementCodec<T> codec,
+                                                                            Supplier<SortedLinkedList<T>> emptyList,
+                                                                            FsyncPolicy fsyncPolicy)
+            throws IOException {
+        return open(snapshotFile, logFile, codec, emptyList, fsyncPolicy, DEFAULT_FSYNC_INTERVAL);
+    }
+
+    //recovers the list from the latest snapshot and the log records written after it into the list emptyList
+    //supplies, which has to be ordered like the one the snapshot was written from
+    public static <T extends Comparable<T>> DurableSortedLinkedList<T> open(Path snapshotFile, Path logFile,
+                                                                            ElementCodec<T> codec,
+                                                                            Supplier<SortedLinkedList<T>> emptyList,
+                                                                            FsyncPolicy fsyncPolicy,
+                                                                            Duration fsyncInterval)
+            throws IOException {
+        SortedLinkedList<T> list = emptyList.get();
+        long base = 0;
+        if (Files.exists(snapshotFile)) {
+            list = SortedLinkedList.readFrom(snapshotFile, codec, list);
+            base = OperationLog.baseOf(snapshotFile);
+        }
+        long validEnd = OperationLog.replay(logFile, codec, base, list);
+        OperationLog<T> log = new OperationLog<>(logFile, codec, fsyncPolicy, fsyncInterval, validEnd, base);
+        return new DurableSortedLinkedList<>(list, log, snapshotFile, codec);
+    }
+
+    public synchronized int size() {
+        return list.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    public synchronized T get(int index) {
+        return list.get(index);
+    }
+
+    public synchronized int indexOf(T item) {
+        return list.indexOf(item);
+    }
+
+    public synchronized boolean add(T item) {
+        log.checkWritable();
+        boolean added = list.add(item);
+        log.append(OperationLog.Operation.ADD, item);
+        return added;
+    }
+
+    public synchronized boolean addAll(Collection<? extends T> collection) {
+        log.checkWritable();
+        boolean added = list.addAll(collection);
+        if (added) {
+            collection.forEach(item -> log.append(OperationLog.Operation.ADD, item));
+        }
+        return added;
+    }
+
+    //logged as removal of the returned item, which replays to the same list content
+    public synchronized T remove(int index) {
+        log.checkWritable();
+        T item = list.remove(index);
+        log.append(OperationLog.Operation.REMOVE, item);
+        return item;
+    }
+
+    public synchronized T remove(T item) {
+        log.checkWritable();
+        int sizeBefore = list.size();
+        T removed = list.remove(item);
+        if (list.size() != sizeBefore) {
+            log.append(OperationLog.Operation.REMOVE, item);
+        }
+        return removed;
+    }
+
+    public synchronized void clear() {
+        log.checkWritable();
+        list.clear();
+        log.append(OperationLog.Operation.CLEAR, null);
+    }
+
+    public synchronized List<T> toList() {
+        return list.toList();
+    }
+
+    //iterates over a copy
+    public Iterator<T> iterator() {
+        return toList().iterator();
+    }
+
+    //streams over a copy
+    public Stream<T> stream() {
+        return toList().stream();
+    }
+
+    //blocks until every change made so far is on the storage device
+    public void sync() {
+        log.sync();
+    }
+
+    //writes a new snapshot and empties the log; a crash in between leaves a log that no longer matches the
+    //snapshot and is ignored on recovery, as the snapshot already holds its changes
+    public synchronized void checkpoint() throws IOException {
+        //replaces the previous snapshot atomically
+        list.writeTo(snapshotFile, codec);
+        log.truncate(OperationLog.baseOf(snapshotFile));
+    }
+
+    //throughput and fsync latency of the log writer
+    public OperationLog<T> getLog() {
+        return log;
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+}
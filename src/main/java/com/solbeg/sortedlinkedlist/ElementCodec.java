@@ -0,0 +1,85 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+//binary form of list items for SortedLinkedList.writeTo and readFrom; nulls are handled by the file format
+//and never reach the codec
+public interface ElementCodec<T> {
+
+    int encodedLength(T item);
+
+    //the buffer has exactly encodedLength(item) bytes remaining
+    void encode(T item, ByteBuffer buffer);
+
+    //the buffer holds exactly the bytes written by encode
+    T decode(ByteBuffer buffer);
+
+    static ElementCodec<Integer> integers() {
+        return new ElementCodec<>() {
+            public int encodedLength(Integer item) {
+                return Integer.BYTES;
+            }
+
+            public void encode(Integer item, ByteBuffer buffer) {
+                buffer.putInt(item);
+            }
+
+            public Integer decode(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+    }
+
+    static ElementCodec<Long> longs() {
+        return new ElementCodec<>() {
+            public int encodedLength(Long item) {
+                return Long.BYTES;
+            }
+
+            public void encode(Long item, ByteBuffer buffer) {
+                buffer.putLong(item);
+            }
+
+            public Long decode(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+    }
+
+    static ElementCodec<String> strings() {
+        return new ElementCodec<>() {
+            //counts UTF-8 bytes without encoding, unpaired surrogates become a single '?' as in String.getBytes
+            public int encodedLength(String item) {
+                int length = 0;
+                for (int i = 0; i < item.length(); i++) {
+                    char c = item.charAt(i);
+                    if (c < 0x80) {
+                        length += 1;
+                    } else if (c < 0x800) {
+                        length += 2;
+                    } else if (Character.isHighSurrogate(c) && i + 1 < item.length()
+                            && Character.isLowSurrogate(item.charAt(i + 1))) {
+                        length += 4;
+                        i++;
+                    } else if (Character.isSurrogate(c)) {
+                        length += 1;
+                    } else {
+                        length += 3;
+                    }
+                }
+                return length;
+            }
+
+            public void encode(String item, ByteBuffer buffer) {
+                buffer.put(item.getBytes(StandardCharsets.UTF_8));
+            }
+
+            public String decode(ByteBuffer buffer) {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
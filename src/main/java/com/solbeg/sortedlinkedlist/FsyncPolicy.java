@@ -0,0 +1,12 @@
+package com.solbeg.sortedlinkedlist;
+
+//when the operation log forces its writes to the storage device, an explicit sync() always does
+public enum FsyncPolicy {
+    //after every group commit
+    ALWAYS,
+    //after a group commit once the configured interval has passed since the previous fsync, and by the writer
+    //itself when writes are left unforced for that long
+    PERIODIC,
+    //leaves it to the operating system
+    NEVER
+}
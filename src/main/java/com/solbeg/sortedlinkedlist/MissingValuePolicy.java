@@ -0,0 +1,7 @@
+package com.solbeg.sortedlinkedlist;
+
+public enum MissingValuePolicy {
+    TRAILING_MISSING,
+    LEADING_MISSING,
+    REJECT_MISSING
+}
@@ -0,0 +1,447 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+//append-only log of list changes: callers only enqueue, a background writer encodes whatever has queued up and
+//writes it as one group commit, fsyncing according to the policy
+public class OperationLog<T> implements Closeable {
+
+    private static final int MAGIC = 0x534C4C57;
+    //magic and the base of the snapshot the log applies to
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    //operation code, payload length and CRC32 of both plus the payload
+    private static final int RECORD_OVERHEAD = 1 + Integer.BYTES + Integer.BYTES;
+    private static final int NULL_LENGTH = -1;
+    private static final int MAX_BATCH = 4096;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String CLOSED_EXCEPTION = "Operation log %s is closed";
+    private static final String FAILED_EXCEPTION = "Operation log %s failed";
+    private static final String INTERRUPTED_EXCEPTION = "Interrupted while waiting for operation log %s";
+    private static final String CODEC_LENGTH_EXCEPTION = "Codec wrote %d bytes for %s but announced %d";
+
+    enum Operation {
+        ADD,
+        REMOVE,
+        CLEAR
+    }
+
+    private enum Control {
+        SYNC,
+        TRUNCATE,
+        CLOSE
+    }
+
+    private final Path path;
+    private final ElementCodec<? super T> codec;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final FileChannel channel;
+    private final BlockingQueue<Entry<T>> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long lastFsyncNanos = System.nanoTime();
+    //written but not forced yet, only touched by the writer
+    private boolean dirty;
+
+    //sequence of the last queued entry, guarded by this
+    private long appended;
+    private boolean closed;
+    //sequence of the last entry handled by the writer, guarded by progress
+    private final Object progress = new Object();
+    private long written;
+    private volatile IOException failure;
+
+    private final LongAdder recordsWritten = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder batchesWritten = new LongAdder();
+    private final SortedListMetrics.LatencyHistogram fsyncLatency = new SortedListMetrics.LatencyHistogram();
+
+    //continues the log after validEnd, or starts it over for the given snapshot base when validEnd is 0
+    OperationLog(Path path, ElementCodec<? super T> codec, FsyncPolicy fsyncPolicy, Duration fsyncInterval,
+                 long validEnd, long base) throws IOException {
+        this.path = path;
+        this.codec = codec;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (validEnd == 0) {
+                startOver(base);
+            } else {
+                channel.truncate(validEnd);
+                channel.position(validEnd);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.writer = new Thread(this::writeLoop, "sorted-list-operation-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public long getRecordsWritten() {
+        return recordsWritten.sum();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    //number of group commits, records per batch is getRecordsWritten() / getBatchesWritten()
+    public long getBatchesWritten() {
+        return batchesWritten.sum();
+    }
+
+    public int getPendingEntries() {
+        return queue.size();
+    }
+
+    public SortedListMetrics.LatencyHistogram getFsyncLatency() {
+        return fsyncLatency;
+    }
+
+    //blocks until everything logged so far is written and forced to the storage device
+    public void sync() {
+        await(enqueue(null, Control.SYNC, null, 0));
+    }
+
+    @Override
+    public void close() throws IOException {
+        long sequence;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            //queued even after a failure, the writer keeps handling entries so the wait below ends
+            sequence = ++appended;
+            queue.add(new Entry<>(sequence, null, Control.CLOSE, null, 0));
+            closed = true;
+        }
+        try {
+            synchronized (progress) {
+                while (written < sequence) {
+                    progress.wait();
+                }
+            }
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            channel.close();
+        }
+        if (nonNull(failure)) {
+            throw failure;
+        }
+    }
+
+    //lets callers fail before they change the list instead of after
+    synchronized void checkWritable() {
+        checkOpen();
+        checkFailure();
+    }
+
+    //expects checkWritable first: a failure since then is reported by the next call, as one right after the append
+    synchronized void append(Operation operation, T item) {
+        checkOpen();
+        queue.add(new Entry<>(++appended, operation, null, item, 0));
+    }
+
+    //empties the log once the entries queued before are handled, the log then applies to the given snapshot base
+    void truncate(long base) {
+        await(enqueue(null, Control.TRUNCATE, null, base));
+    }
+
+    //CRC32 and size of a snapshot file, identifying the snapshot a log applies to; 0 when there is none
+    static long baseOf(Path snapshotFile) throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            return 0;
+        }
+        CRC32 checksum = new CRC32();
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            SortedListFile.Window in = new SortedListFile.Window(snapshotFile, channel,
+                    FileChannel.MapMode.READ_ONLY, size, SortedListFile.DEFAULT_WINDOW_SIZE);
+            while (in.position() < size) {
+                int chunk = (int) Math.min(size - in.position(), SortedListFile.DEFAULT_WINDOW_SIZE);
+                ByteBuffer bytes = in.require(chunk);
+                checksum.update(bytes.slice(bytes.position(), chunk));
+                bytes.position(bytes.position() + chunk);
+            }
+            return checksum.getValue() << 32 | (size & 0xFFFFFFFFL);
+        }
+    }
+
+    //applies the log records to the list and returns the end of the last intact record, or 0 when the log is
+    //missing or belongs to another snapshot; a torn or corrupted tail ends the replay
+    static <T extends Comparable<T>> long replay(Path path, ElementCodec<T> codec, long base,
+                                                 SortedLinkedList<T> list) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                return 0;
+            }
+            SortedListFile.Window in = new SortedListFile.Window(path, channel, FileChannel.MapMode.READ_ONLY,
+                    size, SortedListFile.DEFAULT_WINDOW_SIZE);
+            ByteBuffer header = in.require(HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getLong() != base) {
+                return 0;
+            }
+            CRC32 checksum = new CRC32();
+            long validEnd = in.position();
+            while (validEnd + RECORD_OVERHEAD <= size) {
+                ByteBuffer bytes = in.require(1 + Integer.BYTES);
+                int code = bytes.get();
+                int length = bytes.getInt();
+                int payload = Math.max(0, length);
+                if (code < 0 || code >= Operation.values().length || length < NULL_LENGTH
+                        || in.position() + payload + Integer.BYTES > size) {
+                    break;
+                }
+                bytes = in.require(payload + Integer.BYTES);
+                ByteBuffer data = bytes.slice(bytes.position(), payload);
+                bytes.position(bytes.position() + payload);
+                int storedChecksum = bytes.getInt();
+                checksum.reset();
+                checksum.update(code);
+                checksum.update(ByteBuffer.allocate(Integer.BYTES).putInt(0, length));
+                checksum.update(data.duplicate());
+                if ((int) checksum.getValue() != storedChecksum) {
+                    break;
+                }
+                Operation operation = Operation.values()[code];
+                if (operation == Operation.CLEAR) {
+                    list.clear();
+                } else {
+                    T item = length == NULL_LENGTH ? null : codec.decode(data);
+                    if (operation == Operation.ADD) {
+                        list.add(item);
+                    } else {
+                        list.remove(item);
+                    }
+                }
+                validEnd = in.position();
+            }
+            return validEnd;
+        }
+    }
+
+    private synchronized long enqueue(Operation operation, Control control, T item, long base) {
+        checkWritable();
+        long sequence = ++appended;
+        queue.add(new Entry<>(sequence, operation, control, item, base));
+        return sequence;
+    }
+
+    private void await(long sequence) {
+        try {
+            synchronized (progress) {
+                while (written < sequence) {
+                    progress.wait();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            //the entry may not be written yet, so returning normally would report a sync that did not happen
+            String message = String.format(INTERRUPTED_EXCEPTION, path);
+            throw new UncheckedIOException(message, new InterruptedIOException(message));
+        }
+        checkFailure();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException(String.format(CLOSED_EXCEPTION, path));
+        }
+    }
+
+    private void checkFailure() {
+        if (nonNull(failure)) {
+            throw new UncheckedIOException(String.format(FAILED_EXCEPTION, path), failure);
+        }
+    }
+
+    private void writeLoop() {
+        List<Entry<T>> batch = new ArrayList<>(MAX_BATCH);
+        boolean running = true;
+        while (running) {
+            Entry<T> first;
+            try {
+                first = awaitEntry();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (isNull(first)) {
+                forceDirty();
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, MAX_BATCH - 1);
+            try {
+                if (isNull(failure)) {
+                    running = writeBatch(batch);
+                }
+            } catch (IOException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                failure = new IOException(e);
+            } finally {
+                running &= batch.stream().noneMatch(entry -> entry.control == Control.CLOSE);
+                synchronized (progress) {
+                    written = batch.get(batch.size() - 1).sequence;
+                    progress.notifyAll();
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    //null when periodic writes are left unforced and the interval passes before the next entry
+    private Entry<T> awaitEntry() throws InterruptedException {
+        if (!dirty || fsyncPolicy != FsyncPolicy.PERIODIC) {
+            return queue.take();
+        }
+        long remaining = lastFsyncNanos + fsyncIntervalNanos - System.nanoTime();
+        return queue.poll(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+    }
+
+    private void forceDirty() {
+        try {
+            if (isNull(failure)) {
+                force();
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    //returns false once the log is closed
+    private boolean writeBatch(List<Entry<T>> batch) throws IOException {
+        boolean force = false;
+        boolean running = true;
+        int records = 0;
+        for (Entry<T> entry : batch) {
+            if (nonNull(entry.operation)) {
+                encode(entry.operation, entry.item);
+                records++;
+                continue;
+            }
+            force = true;
+            if (entry.control == Control.TRUNCATE) {
+                flushBuffer();
+                startOver(entry.base);
+            } else if (entry.control == Control.CLOSE) {
+                running = false;
+            }
+        }
+        flushBuffer();
+        dirty = true;
+        recordsWritten.add(records);
+        batchesWritten.increment();
+        if (force || fsyncPolicy == FsyncPolicy.ALWAYS
+                || fsyncPolicy == FsyncPolicy.PERIODIC && System.nanoTime() - lastFsyncNanos >= fsyncIntervalNanos) {
+            force();
+        }
+        return running;
+    }
+
+    private void force() throws IOException {
+        long start = System.nanoTime();
+        channel.force(false);
+        lastFsyncNanos = System.nanoTime();
+        fsyncLatency.record(lastFsyncNanos - start);
+        dirty = false;
+    }
+
+    private void encode(Operation operation, T item) {
+        int length = operation == Operation.CLEAR ? 0 : isNull(item) ? NULL_LENGTH : codec.encodedLength(item);
+        int payload = Math.max(0, length);
+        ensureCapacity(RECORD_OVERHEAD + payload);
+        int start = buffer.position();
+        buffer.put((byte) operation.ordinal());
+        buffer.putInt(length);
+        if (payload > 0) {
+            ByteBuffer slice = buffer.slice(buffer.position(), payload);
+            codec.encode(item, slice);
+            if (slice.hasRemaining()) {
+                String message = String.format(CODEC_LENGTH_EXCEPTION, slice.position(), item, payload);
+                throw new IllegalStateException(message);
+            }
+            buffer.position(buffer.position() + payload);
+        }
+        crc.reset();
+        crc.update(buffer.array(), start, buffer.position() - start);
+        buffer.putInt((int) crc.getValue());
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        try {
+            flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocate(bytes);
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        bytesWritten.add(buffer.remaining());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void startOver(long base) throws IOException {
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putLong(base).flip();
+        channel.write(header, 0);
+        channel.position(HEADER_SIZE);
+        channel.force(false);
+    }
+
+    private static final class Entry<T> {
+        private final long sequence;
+        private final Operation operation;
+        private final Control control;
+        private final T item;
+        private final long base;
+
+        Entry(long sequence, Operation operation, Control control, T item, long base) {
+            this.sequence = sequence;
+            this.operation = operation;
+            this.control = control;
+            this.item = item;
+            this.base = base;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+//thread-safe wrapper for read-heavy use: point reads are optimistic, scans share a read lock, updates are exclusive
+public class ReadMostlySortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
+
+    private final SortedLinkedList<T> list;
+    private final StampedLock lock = new StampedLock();
+    private final LongAdder optimisticReadRetries = new LongAdder();
+    //a write buffer is merged into the chain by the first ordered read, so every read has to be exclusive
+    private final boolean buffered;
+
+    public ReadMostlySortedLinkedList() {
+        this(new SortedLinkedList<>());
+    }
+
+    //the wrapped list must not be used directly afterwards
+    public ReadMostlySortedLinkedList(SortedLinkedList<T> list) {
+        this.list = list;
+        this.buffered = list.getStagingBufferSize() > 0;
+    }
+
+    public int size() {
+        return optimisticRead(list::size);
+    }
+
+    public boolean isEmpty() {
+        return optimisticRead(list::isEmpty);
+    }
+
+    public T get(int index) {
+        return optimisticRead(() -> list.get(index));
+    }
+
+    public int indexOf(T item) {
+        return optimisticRead(() -> list.indexOf(item));
+    }
+
+    public boolean add(T item) {
+        return write(() -> list.add(item));
+    }
+
+    public boolean addAll(Collection<? extends T> collection) {
+        return write(() -> list.addAll(collection));
+    }
+
+    public T remove(int index) {
+        return write(() -> list.remove(index));
+    }
+
+    public T remove(T item) {
+        return write(() -> list.remove(item));
+    }
+
+    public void clear() {
+        write(() -> {
+            list.clear();
+            return null;
+        });
+    }
+
+    public List<T> toList() {
+        return read(list::toList);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        read(() -> {
+            list.forEach(action);
+            return null;
+        });
+    }
+
+    //the snapshot can be read from any thread without taking the lock
+    public SortedLinkedList.Snapshot<T> snapshot() {
+        return write(list::snapshot);
+    }
+
+    //iterates over a copy taken under the read lock
+    public Iterator<T> iterator() {
+        return toList().iterator();
+    }
+
+    //streams over a copy taken under the read lock
+    public Stream<T> stream() {
+        return toList().stream();
+    }
+
+    //number of optimistic reads invalidated by a concurrent write and repeated under the read lock
+    public long getOptimisticReadRetries() {
+        return optimisticReadRetries.sum();
+    }
+
+    private <R> R optimisticRead(Supplier<R> reader) {
+        if (buffered) {
+            return write(reader);
+        }
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                R result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                //the list may be observed half-updated, only an exception from a consistent state is real
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+            optimisticReadRetries.increment();
+        }
+        return read(reader);
+    }
+
+    private <R> R read(Supplier<R> reader) {
+        if (buffered) {
+            return write(reader);
+        }
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private <R> R write(Supplier<R> writer) {
+        long stamp = lock.writeLock();
+        try {
+            return writer.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
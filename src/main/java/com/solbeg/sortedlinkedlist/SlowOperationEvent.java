@@ -0,0 +1,26 @@
+package com.solbeg.sortedlinkedlist;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+//emitted by SortedListMetrics for operations slower than its threshold, visible in any running JFR recording
+@Name("com.solbeg.sortedlinkedlist.SlowOperation")
+@Label("Slow Sorted List Operation")
+@Category("Sorted Linked List")
+@Description("Sorted linked list operation that took longer than the configured threshold")
+class SlowOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    @Label("List Size")
+    int size;
+}
@@ -0,0 +1,38 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.util.function.ToLongFunction;
+
+//sort keys for keyed lists: a key never orders two items differently from the comparator, items it cannot tell
+//apart get equal keys and are left to the comparator
+public final class SortKeys {
+
+    private static final int PREFIX_CHARS = Long.SIZE / Character.SIZE;
+
+    private SortKeys() {
+    }
+
+    //the first four chars, so it matches the natural String order
+    public static ToLongFunction<String> stringPrefix() {
+        return item -> {
+            long key = 0;
+            for (int i = 0; i < PREFIX_CHARS; i++) {
+                key = key << Character.SIZE | (i < item.length() ? item.charAt(i) : 0);
+            }
+            //keys are compared as signed longs
+            return key ^ Long.MIN_VALUE;
+        };
+    }
+
+    public static ToLongFunction<Integer> integers() {
+        return Integer::longValue;
+    }
+
+    public static ToLongFunction<Long> longs() {
+        return Long::longValue;
+    }
+
+    //for a list with the reversed comparator
+    public static <T> ToLongFunction<T> reversed(ToLongFunction<T> sortKey) {
+        return item -> ~sortKey.applyAsLong(item);
+    }
+}
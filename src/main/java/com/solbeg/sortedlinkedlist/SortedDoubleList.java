@@ -0,0 +1,302 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+//sorted list of primitive doubles kept in a growable array, so neither the values nor the comparisons are boxed
+public class SortedDoubleList {
+
+    private static final String INDEX_OUT_OF_BOUND_EXCEPTION = "Index value %d current list size %d";
+    private static final String MISSING_VALUE_REJECTED_EXCEPTION = "Missing value %s is rejected";
+    private static final double[] EMPTY_VALUES = {};
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final boolean reversed;
+    //null when every value is a regular one
+    private final MissingValuePolicy missingValuePolicy;
+    private final double missingValue;
+
+    private double[] values = EMPTY_VALUES;
+    private int valuesSize = 0;
+    private int missingCount = 0;
+
+    public SortedDoubleList() {
+        this(false);
+    }
+
+    public SortedDoubleList(boolean reversed) {
+        this.reversed = reversed;
+        this.missingValuePolicy = null;
+        this.missingValue = 0;
+    }
+
+    public SortedDoubleList(MissingValuePolicy missingValuePolicy, double missingValue, boolean reversed) {
+        this.reversed = reversed;
+        this.missingValuePolicy = missingValuePolicy;
+        this.missingValue = missingValue;
+    }
+
+    public int size() {
+        return valuesSize + missingCount;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int missingCount() {
+        return missingCount;
+    }
+
+    public boolean add(double value) {
+        if (isMissing(value)) {
+            if (missingValuePolicy == MissingValuePolicy.REJECT_MISSING) {
+                throw new IllegalArgumentException(String.format(MISSING_VALUE_REJECTED_EXCEPTION, value));
+            }
+            missingCount++;
+            return true;
+        }
+        ensureCapacity(valuesSize + 1);
+        //value greater than or equal to the last one
+        if (valuesSize == 0 || compare(value, values[valuesSize - 1]) >= 0) {
+            values[valuesSize++] = value;
+            return true;
+        }
+        int position = upperBound(value);
+        System.arraycopy(values, position, values, position + 1, valuesSize - position);
+        values[position] = value;
+        valuesSize++;
+        return true;
+    }
+
+    public boolean addAll(double... newValues) {
+        if (isNull(newValues) || newValues.length == 0) {
+            return false;
+        }
+        double[] sorted = new double[newValues.length];
+        int sortedSize = 0;
+        for (double value : newValues) {
+            if (isMissing(value)) {
+                add(value);
+            } else {
+                sorted[sortedSize++] = value;
+            }
+        }
+        Arrays.sort(sorted, 0, sortedSize);
+        if (reversed) {
+            for (int i = 0, j = sortedSize - 1; i < j; i++, j--) {
+                double tmp = sorted[i];
+                sorted[i] = sorted[j];
+                sorted[j] = tmp;
+            }
+        }
+        merge(sorted, sortedSize);
+        return true;
+    }
+
+    public double get(int index) {
+        checkIndex(index);
+        int valueIndex = valueIndex(index);
+        return valueIndex < 0 ? missingValue : values[valueIndex];
+    }
+
+    public double removeAt(int index) {
+        checkIndex(index);
+        int valueIndex = valueIndex(index);
+        if (valueIndex < 0) {
+            missingCount--;
+            return missingValue;
+        }
+        double value = values[valueIndex];
+        System.arraycopy(values, valueIndex + 1, values, valueIndex, valuesSize - valueIndex - 1);
+        valuesSize--;
+        return value;
+    }
+
+    public boolean removeValue(double value) {
+        if (isMissing(value)) {
+            if (missingCount == 0) {
+                return false;
+            }
+            missingCount--;
+            return true;
+        }
+        int position = lowerBound(value);
+        if (position == valuesSize || Double.compare(values[position], value) != 0) {
+            return false;
+        }
+        System.arraycopy(values, position + 1, values, position, valuesSize - position - 1);
+        valuesSize--;
+        return true;
+    }
+
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(double value) {
+        if (isMissing(value)) {
+            if (missingCount == 0) {
+                return -1;
+            }
+            return missingValuePolicy == MissingValuePolicy.LEADING_MISSING ? 0 : valuesSize;
+        }
+        int position = lowerBound(value);
+        if (position == valuesSize || Double.compare(values[position], value) != 0) {
+            return -1;
+        }
+        return position + leadingMissingCount();
+    }
+
+    public void clear() {
+        valuesSize = 0;
+        missingCount = 0;
+    }
+
+    public double[] toArray() {
+        double[] result = new double[size()];
+        int offset = leadingMissingCount();
+        Arrays.fill(result, 0, offset, missingValue);
+        System.arraycopy(values, 0, result, offset, valuesSize);
+        Arrays.fill(result, offset + valuesSize, result.length, missingValue);
+        return result;
+    }
+
+    public PrimitiveIterator.OfDouble iterator() {
+        return new SortedDoubleListIterator();
+    }
+
+    public void forEach(DoubleConsumer action) {
+        PrimitiveIterator.OfDouble iterator = iterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.nextDouble());
+        }
+    }
+
+    public DoubleStream stream() {
+        DoubleStream valuesStream = Arrays.stream(values, 0, valuesSize);
+        if (missingCount == 0) {
+            return valuesStream;
+        }
+        DoubleStream missingStream = DoubleStream.generate(() -> missingValue).limit(missingCount);
+        return missingValuePolicy == MissingValuePolicy.LEADING_MISSING
+                ? DoubleStream.concat(missingStream, valuesStream)
+                : DoubleStream.concat(valuesStream, missingStream);
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof SortedDoubleList))
+            return false;
+
+        SortedDoubleList other = (SortedDoubleList) o;
+        return Arrays.equals(toArray(), other.toArray());
+    }
+
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size(); i++)
+            hashCode = 31 * hashCode + Double.hashCode(get(i));
+        return hashCode;
+    }
+
+    private boolean isMissing(double value) {
+        return nonNull(missingValuePolicy) && Double.compare(value, missingValue) == 0;
+    }
+
+    private int compare(double v1, double v2) {
+        return reversed ? Double.compare(v2, v1) : Double.compare(v1, v2);
+    }
+
+    private int leadingMissingCount() {
+        return missingValuePolicy == MissingValuePolicy.LEADING_MISSING ? missingCount : 0;
+    }
+
+    //position in the values array, or -1 for a missing value
+    private int valueIndex(int index) {
+        int valueIndex = index - leadingMissingCount();
+        return valueIndex < 0 || valueIndex >= valuesSize ? -1 : valueIndex;
+    }
+
+    //first position whose value is not less than the given one
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = valuesSize;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(values[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //first position whose value is greater than the given one
+    private int upperBound(double value) {
+        int low = 0;
+        int high = valuesSize;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(values[mid], value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //merges values already sorted in list order, filling the array from its end
+    private void merge(double[] sorted, int sortedSize) {
+        ensureCapacity(valuesSize + sortedSize);
+        int i = valuesSize - 1;
+        int j = sortedSize - 1;
+        int k = valuesSize + sortedSize - 1;
+        while (j >= 0) {
+            if (i >= 0 && compare(values[i], sorted[j]) > 0) {
+                values[k--] = values[i--];
+            } else {
+                values[k--] = sorted[j--];
+            }
+        }
+        valuesSize += sortedSize;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            int newCapacity = Math.max(Math.max(DEFAULT_CAPACITY, capacity), values.length + (values.length >> 1));
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            String message = String.format(INDEX_OUT_OF_BOUND_EXCEPTION, index, size());
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+
+    private class SortedDoubleListIterator implements PrimitiveIterator.OfDouble {
+        private int nextIndex;
+
+        public boolean hasNext() {
+            return nextIndex < size();
+        }
+
+        public double nextDouble() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return get(nextIndex++);
+        }
+    }
+}
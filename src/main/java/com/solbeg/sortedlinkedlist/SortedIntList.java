@@ -0,0 +1,302 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+//sorted list of primitive ints kept in a growable array, so neither the values nor the comparisons are boxed
+public class SortedIntList {
+
+    private static final String INDEX_OUT_OF_BOUND_EXCEPTION = "Index value %d current list size %d";
+    private static final String MISSING_VALUE_REJECTED_EXCEPTION = "Missing value %d is rejected";
+    private static final int[] EMPTY_VALUES = {};
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final boolean reversed;
+    //null when every value is a regular one
+    private final MissingValuePolicy missingValuePolicy;
+    private final int missingValue;
+
+    private int[] values = EMPTY_VALUES;
+    private int valuesSize = 0;
+    private int missingCount = 0;
+
+    public SortedIntList() {
+        this(false);
+    }
+
+    public SortedIntList(boolean reversed) {
+        this.reversed = reversed;
+        this.missingValuePolicy = null;
+        this.missingValue = 0;
+    }
+
+    public SortedIntList(MissingValuePolicy missingValuePolicy, int missingValue, boolean reversed) {
+        this.reversed = reversed;
+        this.missingValuePolicy = missingValuePolicy;
+        this.missingValue = missingValue;
+    }
+
+    public int size() {
+        return valuesSize + missingCount;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int missingCount() {
+        return missingCount;
+    }
+
+    public boolean add(int value) {
+        if (isMissing(value)) {
+            if (missingValuePolicy == MissingValuePolicy.REJECT_MISSING) {
+                throw new IllegalArgumentException(String.format(MISSING_VALUE_REJECTED_EXCEPTION, value));
+            }
+            missingCount++;
+            return true;
+        }
+        ensureCapacity(valuesSize + 1);
+        //value greater than or equal to the last one
+        if (valuesSize == 0 || compare(value, values[valuesSize - 1]) >= 0) {
+            values[valuesSize++] = value;
+            return true;
+        }
+        int position = upperBound(value);
+        System.arraycopy(values, position, values, position + 1, valuesSize - position);
+        values[position] = value;
+        valuesSize++;
+        return true;
+    }
+
+    public boolean addAll(int... newValues) {
+        if (isNull(newValues) || newValues.length == 0) {
+            return false;
+        }
+        int[] sorted = new int[newValues.length];
+        int sortedSize = 0;
+        for (int value : newValues) {
+            if (isMissing(value)) {
+                add(value);
+            } else {
+                sorted[sortedSize++] = value;
+            }
+        }
+        Arrays.sort(sorted, 0, sortedSize);
+        if (reversed) {
+            for (int i = 0, j = sortedSize - 1; i < j; i++, j--) {
+                int tmp = sorted[i];
+                sorted[i] = sorted[j];
+                sorted[j] = tmp;
+            }
+        }
+        merge(sorted, sortedSize);
+        return true;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        int valueIndex = valueIndex(index);
+        return valueIndex < 0 ? missingValue : values[valueIndex];
+    }
+
+    public int removeAt(int index) {
+        checkIndex(index);
+        int valueIndex = valueIndex(index);
+        if (valueIndex < 0) {
+            missingCount--;
+            return missingValue;
+        }
+        int value = values[valueIndex];
+        System.arraycopy(values, valueIndex + 1, values, valueIndex, valuesSize - valueIndex - 1);
+        valuesSize--;
+        return value;
+    }
+
+    public boolean removeValue(int value) {
+        if (isMissing(value)) {
+            if (missingCount == 0) {
+                return false;
+            }
+            missingCount--;
+            return true;
+        }
+        int position = lowerBound(value);
+        if (position == valuesSize || values[position] != value) {
+            return false;
+        }
+        System.arraycopy(values, position + 1, values, position, valuesSize - position - 1);
+        valuesSize--;
+        return true;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(int value) {
+        if (isMissing(value)) {
+            if (missingCount == 0) {
+                return -1;
+            }
+            return missingValuePolicy == MissingValuePolicy.LEADING_MISSING ? 0 : valuesSize;
+        }
+        int position = lowerBound(value);
+        if (position == valuesSize || values[position] != value) {
+            return -1;
+        }
+        return position + leadingMissingCount();
+    }
+
+    public void clear() {
+        valuesSize = 0;
+        missingCount = 0;
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size()];
+        int offset = leadingMissingCount();
+        Arrays.fill(result, 0, offset, missingValue);
+        System.arraycopy(values, 0, result, offset, valuesSize);
+        Arrays.fill(result, offset + valuesSize, result.length, missingValue);
+        return result;
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new SortedIntListIterator();
+    }
+
+    public void forEach(IntConsumer action) {
+        PrimitiveIterator.OfInt iterator = iterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.nextInt());
+        }
+    }
+
+    public IntStream stream() {
+        IntStream valuesStream = Arrays.stream(values, 0, valuesSize);
+        if (missingCount == 0) {
+            return valuesStream;
+        }
+        IntStream missingStream = IntStream.generate(() -> missingValue).limit(missingCount);
+        return missingValuePolicy == MissingValuePolicy.LEADING_MISSING
+                ? IntStream.concat(missingStream, valuesStream)
+                : IntStream.concat(valuesStream, missingStream);
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof SortedIntList))
+            return false;
+
+        SortedIntList other = (SortedIntList) o;
+        return Arrays.equals(toArray(), other.toArray());
+    }
+
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size(); i++)
+            hashCode = 31 * hashCode + Integer.hashCode(get(i));
+        return hashCode;
+    }
+
+    private boolean isMissing(int value) {
+        return nonNull(missingValuePolicy) && value == missingValue;
+    }
+
+    private int compare(int v1, int v2) {
+        return reversed ? Integer.compare(v2, v1) : Integer.compare(v1, v2);
+    }
+
+    private int leadingMissingCount() {
+        return missingValuePolicy == MissingValuePolicy.LEADING_MISSING ? missingCount : 0;
+    }
+
+    //position in the values array, or -1 for a missing value
+    private int valueIndex(int index) {
+        int valueIndex = index - leadingMissingCount();
+        return valueIndex < 0 || valueIndex >= valuesSize ? -1 : valueIndex;
+    }
+
+    //first position whose value is not less than the given one
+    private int lowerBound(int value) {
+        int low = 0;
+        int high = valuesSize;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(values[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //first position whose value is greater than the given one
+    private int upperBound(int value) {
+        int low = 0;
+        int high = valuesSize;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(values[mid], value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //merges values already sorted in list order, filling the array from its end
+    private void merge(int[] sorted, int sortedSize) {
+        ensureCapacity(valuesSize + sortedSize);
+        int i = valuesSize - 1;
+        int j = sortedSize - 1;
+        int k = valuesSize + sortedSize - 1;
+        while (j >= 0) {
+            if (i >= 0 && compare(values[i], sorted[j]) > 0) {
+                values[k--] = values[i--];
+            } else {
+                values[k--] = sorted[j--];
+            }
+        }
+        valuesSize += sortedSize;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            int newCapacity = Math.max(Math.max(DEFAULT_CAPACITY, capacity), values.length + (values.length >> 1));
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            String message = String.format(INDEX_OUT_OF_BOUND_EXCEPTION, index, size());
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+
+    private class SortedIntListIterator implements PrimitiveIterator.OfInt {
+        private int nextIndex;
+
+        public boolean hasNext() {
+            return nextIndex < size();
+        }
+
+        public int nextInt() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return get(nextIndex++);
+        }
+    }
+}
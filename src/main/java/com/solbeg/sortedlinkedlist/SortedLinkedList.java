@@ -1,52 +1,147 @@
 package com.solbeg.sortedlinkedlist;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
-public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
+public class SortedLinkedList<T> implements Iterable<T> {
 
     private static final String INDEX_OUT_OF_BOUND_EXCEPTION = "Index value %d current list size %d";
+    private static final String RANGE_EXCEPTION = "Range start %s is after range end %s";
+    private static final String INDEX_RANGE_EXCEPTION = "Index range from %d to %d current list size %d";
+    private static final String CAPACITY_EXCEPTION = "Capacity %d must be positive";
+    private static final String MERGE_ORDER_EXCEPTION = "Lists to merge must share the same order";
+    private static final String QUANTILE_EXCEPTION = "Quantile %s must be between 0 and 1";
+    private static final String EMPTY_LIST_EXCEPTION = "List is empty";
+    private static final String STAGING_BUFFER_EXCEPTION = "Staging buffer size %d must not be negative";
+    private static final String NODE_POOL_EXCEPTION = "Node pool capacity %d must not be negative";
+    //object sizes behind getHashIndexMemoryBytes, with 12 byte headers and 4 byte references
+    private static final int REFERENCE_BYTES = 4;
+    private static final int HASH_MAP_BYTES = 48;
+    private static final int HASH_MAP_ENTRY_BYTES = 32;
+    private static final int VALUE_RUN_BYTES = 24;
 
     private Comparator<T> comparator = new DefaultComparator<>(AddNullsStrategy.TRAILING_NULLS);
+    //order of the chain items, which are never null, so searches skip the null checks of comparator
+    private Comparator<T> chainComparator = naturalOrder(false);
+    //maps items to keys ordered like chainComparator, cached in every node; null unless given to the constructor
+    private ToLongFunction<? super T> sortKey;
     private AddNullsStrategy addNullsStrategy = AddNullsStrategy.TRAILING_NULLS;
 
+    //number of chain nodes; nulls are only counted, before or after the chain as addNullsStrategy says
     private int size = 0;
+    private int nullCount;
     private Node<T> head;
     private Node<T> tail;
+    private SkipListIndex<T> index;
+    //set while the node chain is also referenced by a snapshot and has to be copied before the next change
+    private boolean shared;
+    //node inserted last, where the next insertion search starts; unused by indexed lists
+    private Node<T> finger;
+    //both stay null unless metrics are enabled, so the hot paths only pay a null check
+    private SortedListMetrics metrics;
+    private Comparator<T> countingComparator;
+    //bounded lists keep only the capacity first items and hand every other one to the eviction listener
+    private int capacity = Integer.MAX_VALUE;
+    private Consumer<? super T> evictionListener;
+    //unsorted items added since the last flush, null unless write buffering is enabled
+    private List<T> staging;
+    private int stagingCapacity;
+    //removed nodes kept for reuse, linked through next; the pool is disabled while its capacity is 0
+    private Node<T> pool;
+    private int poolSize;
+    private int poolCapacity;
+    //chain detached by the last clear, reused node by node before new nodes are allocated
+    private Node<T> previousGeneration;
+    private int previousGenerationRemaining;
+    //first node and number of nodes of every distinct item, null unless the hash index is enabled
+    private HashMap<T, ValueRun<T>> hashIndex;
 
     public SortedLinkedList() {
     }
 
     public boolean isEmpty() {
-        return size == 0;
+        return size() == 0;
     }
 
     public SortedLinkedList(boolean reversed) {
-        this.comparator = reversed
-                ? new ReversedComparator<>(addNullsStrategy)
-                : new DefaultComparator<>(addNullsStrategy);
+        this.comparator = createComparator(addNullsStrategy, reversed);
+        this.chainComparator = naturalOrder(reversed);
     }
 
     public SortedLinkedList(AddNullsStrategy addNullsStrategy, boolean reversed) {
         this();
         this.addNullsStrategy = addNullsStrategy;
-        this.comparator = reversed
-                ? new ReversedComparator<>(addNullsStrategy)
-                : new DefaultComparator<>(addNullsStrategy);
+        this.comparator = createComparator(addNullsStrategy, reversed);
+        this.chainComparator = naturalOrder(reversed);
+    }
+
+    public SortedLinkedList(AddNullsStrategy addNullsStrategy, boolean reversed, boolean indexed) {
+        this(addNullsStrategy, reversed);
+        if (indexed) {
+            this.index = new SkipListIndex<>();
+        }
+    }
+
+    public SortedLinkedList(AddNullsStrategy addNullsStrategy, Comparator<? super T> comparator) {
+        this(addNullsStrategy, comparator, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    public SortedLinkedList(AddNullsStrategy addNullsStrategy, Comparator<? super T> comparator, boolean indexed) {
+        this(addNullsStrategy, false, indexed);
+        this.comparator = new DelegatingComparator<>(addNullsStrategy, comparator);
+        //only ever called with items of the list
+        this.chainComparator = (Comparator<T>) Objects.requireNonNull(comparator);
+    }
+
+    //sortKey has to order items like comparator, e.g. SortKeys.stringPrefix() for natural String order: searches
+    //compare the cached keys as longs and call the comparator only when the keys are equal
+    public SortedLinkedList(AddNullsStrategy addNullsStrategy, Comparator<? super T> comparator,
+                            ToLongFunction<? super T> sortKey, boolean indexed) {
+        this(addNullsStrategy, comparator, indexed);
+        this.sortKey = Objects.requireNonNull(sortKey);
+    }
+
+    public SortedLinkedList(AddNullsStrategy addNullsStrategy, boolean reversed, int capacity) {
+        this(addNullsStrategy, reversed, false, capacity, item -> { });
+    }
+
+    public SortedLinkedList(AddNullsStrategy addNullsStrategy, boolean reversed, int capacity,
+                            Consumer<? super T> evictionListener) {
+        this(addNullsStrategy, reversed, false, capacity, evictionListener);
+    }
+
+    //keeps the capacity least items in list order, e.g. the best scores of a reversed list; the listener gets
+    //both items evicted from the tail and items rejected for not being better than the tail of a full list
+    public SortedLinkedList(AddNullsStrategy addNullsStrategy, boolean reversed, boolean indexed, int capacity,
+                            Consumer<? super T> evictionListener) {
+        this(addNullsStrategy, reversed, indexed);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(String.format(CAPACITY_EXCEPTION, capacity));
+        }
+        this.capacity = capacity;
+        this.evictionListener = Objects.requireNonNull(evictionListener);
     }
 
     public SortedLinkedList(Collection<? extends T> collection) {
@@ -69,70 +164,435 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         addAll(linkedList);
     }
 
+    //buffered items are counted without merging them
     public int size() {
-        return size;
+        int total = size + nullCount;
+        return isNull(staging) ? total : total + staging.size();
+    }
+
+    public boolean isIndexed() {
+        return nonNull(index);
+    }
+
+    AddNullsStrategy getAddNullsStrategy() {
+        return addNullsStrategy;
+    }
+
+    boolean isReversed() {
+        return comparator instanceof ReversedComparator;
+    }
+
+    boolean hasOwnComparator() {
+        return comparator instanceof DelegatingComparator;
+    }
+
+    public SortedListMetrics getMetrics() {
+        return metrics;
+    }
+
+    //null disables the metrics again
+    public void setMetrics(SortedListMetrics metrics) {
+        this.metrics = metrics;
+        this.countingComparator = isNull(metrics) ? null : metrics.counting(chainComparator);
+    }
+
+    public int getStagingBufferSize() {
+        return isNull(staging) ? 0 : stagingCapacity;
+    }
+
+    //write buffering: add appends to an unsorted buffer in O(1), which is sorted and merged into the list in one
+    //pass when it is full or before the list is read in order; 0 merges the buffer and disables it. Reads may
+    //merge the buffer, so a buffering list must not be read concurrently even without writers
+    public void setStagingBufferSize(int bufferSize) {
+        if (bufferSize < 0) {
+            throw new IllegalArgumentException(String.format(STAGING_BUFFER_EXCEPTION, bufferSize));
+        }
+        flush();
+        stagingCapacity = bufferSize;
+        staging = bufferSize == 0 ? null : new ArrayList<>(bufferSize);
+    }
+
+    public int getNodePoolCapacity() {
+        return poolCapacity;
+    }
+
+    //number of nodes ready for reuse, not counting the ones left by clear
+    public int getPooledNodes() {
+        return poolSize;
+    }
+
+    //node recycling: removed nodes are kept up to the capacity and reused by later insertions, and clear detaches
+    //the chain in O(1) for lazy reuse instead of unlinking every node; items of a cleared list stay reachable
+    //until their nodes are reused. 0 releases the pooled nodes and disables the pool
+    public void setNodePoolCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(String.format(NODE_POOL_EXCEPTION, capacity));
+        }
+        poolCapacity = capacity;
+        while (poolSize > capacity) {
+            pool = pool.next;
+            poolSize--;
+        }
+        previousGenerationRemaining = Math.min(previousGenerationRemaining, capacity);
+        if (previousGenerationRemaining == 0) {
+            previousGeneration = null;
+        }
+    }
+
+    public boolean isHashIndexed() {
+        return nonNull(hashIndex);
+    }
+
+    //hash index from item to its nodes: contains and count become O(1) expected, remove(T) as well unless the
+    //list is also indexed, which still needs O(log n) to unlink the node from the skip list; items are told
+    //apart by equals, so the comparator has to be consistent with equals. Building it walks the list once
+    public void setHashIndexed(boolean hashIndexed) {
+        if (!hashIndexed) {
+            hashIndex = null;
+            return;
+        }
+        if (isNull(hashIndex)) {
+            flush();
+            rebuildHashIndex();
+        }
+    }
+
+    //estimated heap taken by the hash index, assuming compressed references; 0 when it is disabled
+    public long getHashIndexMemoryBytes() {
+        if (isNull(hashIndex)) {
+            return 0;
+        }
+        int distinct = hashIndex.size();
+        //the table doubles whenever it is filled beyond the 0.75 load factor and does not shrink, so this is
+        //the least it takes for the current number of distinct items
+        long tableLength = distinct == 0 ? 0 : 16;
+        while (tableLength * 3 / 4 < distinct) {
+            tableLength <<= 1;
+        }
+        return HASH_MAP_BYTES + REFERENCE_BYTES * tableLength + (HASH_MAP_ENTRY_BYTES + VALUE_RUN_BYTES) * distinct;
+    }
+
+    //O(1) expected with the hash index, otherwise a search
+    public boolean contains(T item) {
+        flush();
+        if (isNull(item)) {
+            return nullCount > 0;
+        }
+        if (nonNull(hashIndex)) {
+            return hashIndex.containsKey(item);
+        }
+        return indexOfItem(item) >= 0;
+    }
+
+    //number of items equal to item; O(1) expected with the hash index, otherwise a search
+    public int count(T item) {
+        flush();
+        if (isNull(item)) {
+            return nullCount;
+        }
+        if (nonNull(hashIndex)) {
+            ValueRun<T> run = hashIndex.get(item);
+            return isNull(run) ? 0 : run.count;
+        }
+        return range(item, true, item, true).size();
+    }
+
+    //merges the buffered items into the list, ordered reads do this on their own
+    public void flush() {
+        if (isNull(staging) || staging.isEmpty()) {
+            return;
+        }
+        if (isNull(metrics)) {
+            flushStaging();
+            return;
+        }
+        long start = System.nanoTime();
+        flushStaging();
+        metrics.record(SortedListMetrics.Operation.FLUSH, start, size());
+    }
+
+    private void flushStaging() {
+        List<T> items = staging;
+        //detached while merging, so size and isEmpty only see the chain
+        staging = null;
+        try {
+            mergeItems(items);
+        } finally {
+            items.clear();
+            staging = items;
+        }
     }
 
     public T get(int index) {
-        return getNode(index).item;
+        flush();
+        if (isNull(metrics)) {
+            return itemAt(index);
+        }
+        long start = System.nanoTime();
+        T item = itemAt(index);
+        metrics.record(SortedListMetrics.Operation.GET, start, size());
+        return item;
+    }
+
+    private T itemAt(int index) {
+        checkIndex(index);
+        int chainPosition = index - leadingNulls();
+        return chainPosition < 0 || chainPosition >= size ? null : getNode(chainPosition).item;
     }
 
     public boolean addAll(Collection<? extends T> collection) {
         if (isNull(collection) || collection.isEmpty()) {
             return false;
         }
-        collection.forEach(this::add);
+        flush();
+        if (isNull(metrics)) {
+            return addAllItems(collection);
+        }
+        long start = System.nanoTime();
+        boolean added = addAllItems(collection);
+        metrics.record(SortedListMetrics.Operation.ADD_ALL, start, size());
+        return added;
+    }
+
+    private boolean addAllItems(Collection<? extends T> collection) {
+        mergeItems(new ArrayList<>(collection));
         return true;
     }
 
+    //sorts items in place and merges them in one pass, or adds them one by one when that is cheaper
+    private void mergeItems(List<T> items) {
+        copyOnWrite();
+        if (preferSingleAdds(items.size())) {
+            items.forEach(item -> addItem(item, Hint.LAST_INSERT));
+            return;
+        }
+        int count = items.size();
+        items.removeIf(Objects::isNull);
+        nullCount += count - items.size();
+        items.sort(chainComparator.reversed());
+        mergeFromTail(items.iterator());
+    }
+
     public boolean addAll(SortedLinkedList<? extends T> linkedList) {
-        if (isEmpty()) {
+        if (isNull(linkedList) || linkedList.isEmpty()) {
             return false;
         }
-        linkedList.forEach(this::add);
+        flush();
+        linkedList.flush();
+        if (linkedList == this || !comparator.equals(linkedList.comparator)) {
+            return addAll(linkedList.toList());
+        }
+        if (isNull(metrics)) {
+            return addAllItems(linkedList);
+        }
+        long start = System.nanoTime();
+        boolean added = addAllItems(linkedList);
+        metrics.record(SortedListMetrics.Operation.ADD_ALL, start, size());
+        return added;
+    }
+
+    private boolean addAllItems(SortedLinkedList<? extends T> linkedList) {
+        copyOnWrite();
+        if (preferSingleAdds(linkedList.size())) {
+            linkedList.forEach(item -> addItem(item, Hint.LAST_INSERT));
+            return true;
+        }
+        nullCount += linkedList.nullCount;
+        mergeFromTail(linkedList.descendingIterator());
         return true;
     }
 
     public boolean add(T item) {
+        return add(item, Hint.LAST_INSERT);
+    }
+
+    //the hint only decides where the search for the insert position starts, indexed lists ignore it
+    public boolean add(T item, Hint hint) {
+        Objects.requireNonNull(hint);
+        if (nonNull(staging)) {
+            return stage(item);
+        }
+        if (isNull(metrics)) {
+            return addItem(item, hint);
+        }
+        long start = System.nanoTime();
+        boolean added = addItem(item, hint);
+        metrics.record(SortedListMetrics.Operation.ADD, start, size());
+        return added;
+    }
+
+    //a bounded list applies its capacity when the buffer is merged, so true does not promise the item is kept
+    private boolean stage(T item) {
+        staging.add(item);
+        if (staging.size() >= stagingCapacity) {
+            flush();
+        }
+        return true;
+    }
+
+    private boolean addItem(T item, Hint hint) {
+        if (size + nullCount < capacity) {
+            return insertItem(item, hint);
+        }
+        boolean lastIsNull = lastIsNull();
+        //O(1) rejection: an item not better than the last one would be evicted right away
+        if (comparator.compare(item, lastIsNull ? null : tail.item) >= 0) {
+            evictionListener.accept(item);
+            return false;
+        }
+        //a null is only counted on insert, but the eviction below still changes the chain
+        copyOnWrite();
+        insertItem(item, hint);
+        if (lastIsNull) {
+            nullCount--;
+            evictionListener.accept(null);
+            return true;
+        }
+        T evicted = tail.item;
+        if (isIndexed()) {
+            index.findPredecessorAt(size - 1, head);
+        }
+        removeNode(tail);
+        evictionListener.accept(evicted);
+        return true;
+    }
+
+    private boolean insertItem(T item, Hint hint) {
         if (isNull(item)) {
-            addNullItem();
+            nullCount++;
+            return true;
+        }
+
+        copyOnWrite();
+        if (isIndexed()) {
+            addIndexed(item);
             size++;
             return true;
         }
 
-        if (isEmpty()) {
-            head = tail = new Node<>(item, null, null);
+        if (size == 0) {
+            head = tail = finger = allocateNode(item, null, null);
+            linkToHashIndex(head);
             size++;
             return true;
         }
 
+        Comparator<T> searchComparator = searchComparator();
+        long key = sortKeyOf(item);
         //item less than head
-        if (comparator.compare(item, head.item) <= 0) {
-            head = insertBefore(head, item);
+        if (compareToNode(item, key, head, searchComparator) <= 0) {
+            head = finger = insertBefore(head, item);
+            linkToHashIndex(head);
             size++;
+            if (nonNull(metrics)) {
+                metrics.recordHeadFastPath();
+            }
             return true;
         //item greater than tail
-        } else if (comparator.compare(item, tail.item) > 0) {
-            tail = insertAfter(tail, item);
+        } else if (compareToNode(item, key, tail, searchComparator) > 0) {
+            tail = finger = insertAfter(tail, item);
+            linkToHashIndex(tail);
             size++;
+            if (nonNull(metrics)) {
+                metrics.recordTailFastPath();
+            }
             return true;
         }
 
-        Node<T> foundNode = findInsertNodePosition(item);
-        insertBefore(foundNode, item);
+        Node<T> foundNode = findInsertNodePosition(item, key, searchStart(hint));
+        finger = insertBefore(foundNode, item);
+        linkToHashIndex(finger);
         size++;
         return true;
     }
 
+    public int indexOf(T item) {
+        flush();
+        if (isNull(metrics)) {
+            return indexOfItem(item);
+        }
+        long start = System.nanoTime();
+        int position = indexOfItem(item);
+        metrics.record(SortedListMetrics.Operation.INDEX_OF, start, size());
+        return position;
+    }
+
+    private int indexOfItem(T item) {
+        if (isNull(item)) {
+            return nullCount == 0 ? -1 : leadingNulls() > 0 ? 0 : size;
+        }
+        if (size == 0) {
+            return -1;
+        }
+        if (isIndexed()) {
+            int rank = index.rankOf(item, sortKeyOf(item), nonNull(sortKey), head, searchComparator());
+            return rank < 0 ? -1 : leadingNulls() + rank;
+        }
+        Comparator<T> searchComparator = searchComparator();
+        int position = 0;
+        long key = sortKeyOf(item);
+        for (Node<T> node = head; nonNull(node); node = node.next, position++) {
+            int compareResult = compareToNode(item, key, node, searchComparator);
+            if (compareResult <= 0) {
+                recordTraversal(position + 1);
+                return compareResult == 0 ? leadingNulls() + position : -1;
+            }
+        }
+        recordTraversal(position);
+        return -1;
+    }
+
     public T remove(int index) {
-        Node<T> node = getNode(index);
+        flush();
+        if (isNull(metrics)) {
+            return removeAt(index);
+        }
+        long start = System.nanoTime();
+        T item = removeAt(index);
+        metrics.record(SortedListMetrics.Operation.REMOVE, start, size());
+        return item;
+    }
+
+    public T remove(T item) {
+        flush();
+        if (isNull(metrics)) {
+            return removeItem(item);
+        }
+        long start = System.nanoTime();
+        T removed = removeItem(item);
+        metrics.record(SortedListMetrics.Operation.REMOVE, start, size());
+        return removed;
+    }
+
+    private T removeAt(int index) {
+        checkIndex(index);
+        int chainPosition = index - leadingNulls();
+        if (chainPosition < 0 || chainPosition >= size) {
+            nullCount--;
+            return null;
+        }
+        copyOnWrite();
+        Node<T> node = isIndexed() ? findIndexedNode(chainPosition) : getNode(chainPosition);
         T item = node.item;
         removeNode(node);
         return item;
     }
 
-    public T remove(T item) {
-        Node<T> node = getNode(item);
+    private T removeItem(T item) {
+        if (isNull(item)) {
+            nullCount -= nullCount > 0 ? 1 : 0;
+            return null;
+        }
+        if (nonNull(hashIndex) && !hashIndex.containsKey(item)) {
+            return null;
+        }
+        copyOnWrite();
+        Node<T> node;
+        if (isIndexed()) {
+            node = findIndexedNode(item);
+        } else {
+            node = nonNull(hashIndex) ? hashIndex.get(item).first : getNode(item);
+        }
         if (isNull(node)) {
             return null;
         }
@@ -141,11 +601,137 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         return returnItem;
     }
 
+    //removes the items from fromKey inclusive to toKey exclusive and returns how many were removed
+    public int removeRange(T fromKey, T toKey) {
+        if (comparator.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException(String.format(RANGE_EXCEPTION, fromKey, toKey));
+        }
+        flush();
+        int removedNulls = 0;
+        if (nullCount > 0 && comparator.compare(null, fromKey) >= 0 && comparator.compare(null, toKey) < 0) {
+            removedNulls = nullCount;
+            nullCount = 0;
+        }
+        if (size == 0) {
+            return removedNulls;
+        }
+        copyOnWrite();
+        Node<T> first;
+        if (isIndexed()) {
+            Node<T> pred = index.findPredecessor(fromKey, head, comparator);
+            first = isNull(pred) ? head : pred.next;
+        } else {
+            first = head;
+            while (nonNull(first) && comparator.compare(first.item, fromKey) < 0) {
+                first = first.next;
+            }
+        }
+        int count = 0;
+        Node<T> last = null;
+        for (Node<T> node = first; nonNull(node) && comparator.compare(node.item, toKey) < 0; node = node.next) {
+            last = node;
+            count++;
+        }
+        if (count > 0) {
+            if (isIndexed()) {
+                index.unlinkRun(count);
+            }
+            detachRun(first, last, count);
+        }
+        return count + removedNulls;
+    }
+
+    //removes the items from fromIndex inclusive to toIndex exclusive and returns how many were removed
+    public int removeRange(int fromIndex, int toIndex) {
+        flush();
+        int total = size + nullCount;
+        if (fromIndex < 0 || toIndex > total || fromIndex > toIndex) {
+            String message = String.format(INDEX_RANGE_EXCEPTION, fromIndex, toIndex, total);
+            throw new IndexOutOfBoundsException(message);
+        }
+        //the part of the range outside the chain holds nulls
+        int chainStart = leadingNulls();
+        int chainFrom = Math.min(Math.max(fromIndex - chainStart, 0), size);
+        int count = Math.min(Math.max(toIndex - chainStart, 0), size) - chainFrom;
+        nullCount -= toIndex - fromIndex - count;
+        if (count == 0) {
+            return toIndex - fromIndex;
+        }
+        copyOnWrite();
+        Node<T> first;
+        if (isIndexed()) {
+            Node<T> pred = index.findPredecessorAt(chainFrom, head);
+            first = isNull(pred) ? head : pred.next;
+        } else {
+            first = getNode(chainFrom);
+        }
+        Node<T> last = first;
+        for (int i = 1; i < count; i++) {
+            last = last.next;
+        }
+        if (isIndexed()) {
+            index.unlinkRun(count);
+        }
+        detachRun(first, last, count);
+        return toIndex - fromIndex;
+    }
+
+    //single pass: every run of adjacent matching nodes is detached with one relink, the index is rebuilt once;
+    //the filter sees null only once, whatever the number of nulls
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        flush();
+        int oldNullCount = nullCount;
+        if (nullCount > 0 && filter.test(null)) {
+            nullCount = 0;
+        }
+        if (size == 0) {
+            return nullCount != oldNullCount;
+        }
+        copyOnWrite();
+        int oldSize = size;
+        try {
+            Node<T> node = head;
+            while (nonNull(node)) {
+                if (!filter.test(node.item)) {
+                    node = node.next;
+                    continue;
+                }
+                Node<T> first = node;
+                Node<T> last = node;
+                int count = 0;
+                while (nonNull(node) && filter.test(node.item)) {
+                    last = node;
+                    node = node.next;
+                    count++;
+                }
+                detachRun(first, last, count);
+            }
+        } finally {
+            //also after a failing filter, the runs detached so far are gone from the chain
+            if (size != oldSize && isIndexed()) {
+                index.rebuild(head, size);
+            }
+        }
+        return size != oldSize || nullCount != oldNullCount;
+    }
+
     public void clear() {
+        if (nonNull(staging)) {
+            staging.clear();
+        }
         if (isEmpty()) {
             return;
         }
-        Node<T> node = head;
+        //nodes still referenced by a snapshot are never recycled
+        Node<T> node = shared ? null : head;
+        shared = false;
+        finger = null;
+        if (poolCapacity > 0) {
+            previousGeneration = node;
+            previousGenerationRemaining = isNull(node) ? 0 : Math.min(size, poolCapacity);
+            node = null;
+        }
         while (nonNull(node)) {
             Node<T> next = node.next;
             clearNodeData(node);
@@ -153,6 +739,146 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         }
         head = tail = null;
         size = 0;
+        nullCount = 0;
+        if (nonNull(hashIndex)) {
+            hashIndex = new HashMap<>();
+        }
+        if (isIndexed()) {
+            index.clear();
+        }
+    }
+
+    //nearest-rank quantile: the least item with at least q * size items up to and including it;
+    //O(log n) on indexed lists
+    public T quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException(String.format(QUANTILE_EXCEPTION, q));
+        }
+        flush();
+        if (isEmpty()) {
+            throw new NoSuchElementException(EMPTY_LIST_EXCEPTION);
+        }
+        int total = size();
+        int position = (int) Math.ceil(q * total) - 1;
+        return get(Math.min(total - 1, Math.max(0, position)));
+    }
+
+    //lower median for lists of even size
+    public T median() {
+        return quantile(0.5);
+    }
+
+    //number of items ordered before item, whether the list contains it or not; O(log n) on indexed lists
+    public int rank(T item) {
+        return headView(item).size();
+    }
+
+    //number of items between lo and hi, both inclusive; O(log n) on indexed lists
+    public int countBetween(T lo, T hi) {
+        return range(lo, true, hi, true).size();
+    }
+
+    //live view of the items between from and to, nothing is copied
+    public RangeView<T> range(T from, boolean fromInclusive, T to, boolean toInclusive) {
+        if (comparator.compare(from, to) > 0) {
+            throw new IllegalArgumentException(String.format(RANGE_EXCEPTION, from, to));
+        }
+        return new RangeView<>(this, true, from, fromInclusive, true, to, toInclusive);
+    }
+
+    //live view of the items ordered before to
+    public RangeView<T> headView(T to) {
+        return new RangeView<>(this, false, null, false, true, to, false);
+    }
+
+    //live view of the items starting from from
+    public RangeView<T> tailView(T from) {
+        return new RangeView<>(this, true, from, true, false, null, false);
+    }
+
+    //writes the items in list order together with the nulls strategy and the order flags
+    public void writeTo(Path path, ElementCodec<? super T> codec) throws IOException {
+        flush();
+        SortedListFile.write(this, path, codec, SortedListFile.DEFAULT_WINDOW_SIZE);
+    }
+
+    public static <T> SortedLinkedList<T> readFrom(Path path, ElementCodec<T> codec) throws IOException {
+        return readFrom(path, codec, false);
+    }
+
+    //O(n) without comparisons: the file is already in list order, so the nodes are linked one after another
+    public static <T> SortedLinkedList<T> readFrom(Path path, ElementCodec<T> codec, boolean indexed)
+            throws IOException {
+        return SortedListFile.read(path, codec, indexed, SortedListFile.DEFAULT_WINDOW_SIZE);
+    }
+
+    //reads into emptyList, needed for lists ordered by a comparator given to the constructor, which the file
+    //cannot hold; emptyList has to be ordered like the list that was written
+    public static <T> SortedLinkedList<T> readFrom(Path path, ElementCodec<T> codec,
+                                                   SortedLinkedList<T> emptyList) throws IOException {
+        return SortedListFile.read(path, codec, emptyList, SortedListFile.DEFAULT_WINDOW_SIZE);
+    }
+
+    //appends an item known to belong after the tail, for loading items that are already in list order
+    void linkLast(T item) {
+        if (isNull(item)) {
+            nullCount++;
+            return;
+        }
+        Node<T> node = allocateNode(item, null, tail);
+        if (isNull(tail)) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        linkToHashIndex(node);
+        size++;
+    }
+
+    //empty list with the nulls strategy, comparator and sort key of this one
+    SortedLinkedList<T> emptyWithSameOrder(boolean indexed) {
+        SortedLinkedList<T> list = new SortedLinkedList<>(addNullsStrategy, false, indexed);
+        list.comparator = comparator;
+        list.chainComparator = chainComparator;
+        list.sortKey = sortKey;
+        return list;
+    }
+
+    //completes a series of linkLast calls
+    void finishLinking() {
+        if (isIndexed()) {
+            index.rebuild(head, size);
+        }
+    }
+
+    //lazy k-way merge over the lists' own nodes through a heap of k cursors, O(log k) per item; equal items
+    //come in the order of the lists; the lists must share one order and must not change while it is consumed
+    public static <T> Stream<T> mergeAll(Collection<? extends SortedLinkedList<T>> lists) {
+        MergeIterator<T> iterator = new MergeIterator<>(lists);
+        Spliterator<T> spliterator = Spliterators.spliterator(iterator, iterator.remaining,
+                Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    //eager k-way merge into a new list with the same order, linked node by node in O(n log k)
+    public static <T> SortedLinkedList<T> mergeAllToList(Collection<? extends SortedLinkedList<T>> lists) {
+        MergeIterator<T> iterator = new MergeIterator<>(lists);
+        SortedLinkedList<T> first = lists.isEmpty() ? null : lists.iterator().next();
+        SortedLinkedList<T> result = isNull(first) ? new SortedLinkedList<>() : first.emptyWithSameOrder(false);
+        while (iterator.hasNext()) {
+            result.linkLast(iterator.next());
+        }
+        result.finishLinking();
+        return result;
+    }
+
+    //O(1): the snapshot takes over the current nodes and the list copies them on its next modification
+    public Snapshot<T> snapshot() {
+        flush();
+        shared = nonNull(head);
+        return new Snapshot<>(head, size + nullCount, leadingNulls(), leadingNulls() + size,
+                isIndexed() ? index.top : null, comparator);
     }
 
     public List<T> toList() {
@@ -167,15 +893,86 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         return result;
     }
 
+    private void copyOnWrite() {
+        if (!shared) {
+            return;
+        }
+        if (isNull(head)) {
+            //emptied by evictions, nothing is left to copy but the index top the snapshot still holds
+            shared = false;
+            finger = null;
+            if (isIndexed()) {
+                index.clear();
+            }
+            return;
+        }
+        Node<T> copyHead = allocateNode(head.item, null, null);
+        Node<T> copyTail = copyHead;
+        for (Node<T> node = head.next; nonNull(node); node = node.next) {
+            copyTail = insertAfter(copyTail, node.item);
+        }
+        head = copyHead;
+        tail = copyTail;
+        shared = false;
+        finger = null;
+        if (isIndexed()) {
+            index.rebuild(head, size);
+        }
+        if (nonNull(hashIndex)) {
+            rebuildHashIndex();
+        }
+    }
+
     private void clearNodeData(Node<T> node) {
         node.prev = null;
         node.next = null;
         node.item = null;
     }
 
+    //node is already detached, only its next link is still intact
+    private void recycle(Node<T> node) {
+        if (nonNull(hashIndex)) {
+            unlinkFromHashIndex(node);
+        }
+        clearNodeData(node);
+        if (poolSize < poolCapacity) {
+            node.next = pool;
+            pool = node;
+            poolSize++;
+        }
+    }
+
+    //takes a pooled node, then one left by clear, and allocates only when both are used up
+    private Node<T> allocateNode(T item, Node<T> next, Node<T> prev) {
+        Node<T> node = pool;
+        if (nonNull(node)) {
+            pool = node.next;
+            poolSize--;
+        } else if (nonNull(previousGeneration)) {
+            node = previousGeneration;
+            //past the pool capacity the rest of the old chain is left to the garbage collector
+            previousGeneration = --previousGenerationRemaining > 0 ? node.next : null;
+        } else {
+            return isNull(sortKey) ? new Node<>(item, next, prev) : new KeyedNode<>(item, next, prev, sortKeyOf(item));
+        }
+        node.item = item;
+        node.next = next;
+        node.prev = prev;
+        if (nonNull(sortKey)) {
+            ((KeyedNode<T>) node).key = sortKeyOf(item);
+        }
+        return node;
+    }
+
     private void removeNode(Node<T> node) {
+        if (isIndexed()) {
+            index.unlink(node);
+        }
         Node<T> prevNode = node.prev;
         Node<T> nextNode = node.next;
+        if (node == finger) {
+            finger = nonNull(nextNode) ? nextNode : prevNode;
+        }
         if (nonNull(prevNode)) {
             prevNode.next = node.next;
         } else {
@@ -186,14 +983,40 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         } else {
             tail = prevNode;
         }
-        clearNodeData(node);
+        recycle(node);
         size--;
     }
 
+    //detaches count adjacent nodes from first to last with a single relink, leaving the index to the caller
+    private void detachRun(Node<T> first, Node<T> last, int count) {
+        Node<T> prevNode = first.prev;
+        Node<T> nextNode = last.next;
+        if (nonNull(prevNode)) {
+            prevNode.next = nextNode;
+        } else {
+            head = nextNode;
+        }
+        if (nonNull(nextNode)) {
+            nextNode.prev = prevNode;
+        } else {
+            tail = prevNode;
+        }
+        Node<T> node = first;
+        while (node != nextNode) {
+            Node<T> next = node.next;
+            if (node == finger) {
+                finger = nonNull(nextNode) ? nextNode : prevNode;
+            }
+            recycle(node);
+            node = next;
+        }
+        size -= count;
+    }
+
     private Node<T> insertBefore(Node<T> node, T item) {
         Objects.requireNonNull(node);
         Node<T> prevNode = node.prev;
-        Node<T> newNode = new Node<>(item, node, prevNode);
+        Node<T> newNode = allocateNode(item, node, prevNode);
         node.prev = newNode;
         if (nonNull(prevNode)) {
             prevNode.next = newNode;
@@ -204,7 +1027,7 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
     private Node<T> insertAfter(Node<T> node, T item) {
         Objects.requireNonNull(node);
         Node<T> nextNode = node.next;
-        Node<T> newNode = new Node<>(item, nextNode, node);
+        Node<T> newNode = allocateNode(item, nextNode, node);
         node.next = newNode;
         if (nonNull(nextNode)) {
             nextNode.prev = newNode;
@@ -212,9 +1035,13 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         return newNode;
     }
 
+    //index is a chain position
     private Node<T> getNode(int index) {
-        checkIndex(index);
+        if (isIndexed()) {
+            return this.index.nodeAt(index, head);
+        }
         boolean searchFromHead = index <= (size / 2);
+        recordTraversal(searchFromHead ? index : size - 1 - index);
         Node<T> node = searchFromHead ? head : tail;
         if (searchFromHead) {
             for (int i = 0; i < index; i++) {
@@ -229,50 +1056,254 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
     }
 
     private Node<T> getNode(T item) {
-        if (isEmpty()) {
+        Comparator<T> searchComparator = searchComparator();
+        long key = sortKeyOf(item);
+        int steps = 0;
+        for (Node<T> node = head; nonNull(node); node = node.next) {
+            steps++;
+            if (compareToNode(item, key, node, searchComparator) == 0) {
+                recordTraversal(steps);
+                return node;
+            }
+        }
+        recordTraversal(steps);
+        return null;
+    }
+
+    public Iterator<T> iterator() {
+        flush();
+        return new SortedListIterator();
+    }
+
+    private Node<T> searchStart(Hint hint) {
+        switch (hint) {
+            case HEAD:
+                return head;
+            case TAIL:
+                return tail;
+            default:
+                return isNull(finger) ? tail : finger;
+        }
+    }
+
+    //first node not less than item, searched outward from start, so the cost is the distance between them
+    private Node<T> findInsertNodePosition(T item, long key, Node<T> start) {
+        Objects.requireNonNull(item);
+        Comparator<T> searchComparator = searchComparator();
+        Node<T> node = start;
+        int steps = 0;
+        if (compareToNode(item, key, node, searchComparator) <= 0) {
+            while (nonNull(node.prev) && compareToNode(item, key, node.prev, searchComparator) <= 0) {
+                node = node.prev;
+                steps++;
+            }
+        } else {
+            //add checks the tail first, so a node not less than item exists ahead
+            do {
+                node = node.next;
+                steps++;
+            } while (compareToNode(item, key, node, searchComparator) > 0);
+        }
+        recordTraversal(steps);
+        return node;
+    }
+
+    //indexed lists only benefit from a linear merge when the batch is comparable to the list itself
+    private boolean preferSingleAdds(int batchSize) {
+        return isIndexed() && (long) batchSize * (32 - Integer.numberOfLeadingZeros(size)) < size;
+    }
+
+    //merges items given from the greatest to the least, so appending to the tail costs nothing extra
+    private void mergeFromTail(Iterator<? extends T> descendingItems) {
+        Comparator<T> searchComparator = searchComparator();
+        Node<T> cursor = tail;
+        while (descendingItems.hasNext()) {
+            T item = descendingItems.next();
+            long key = sortKeyOf(item);
+            while (nonNull(cursor) && compareToNode(item, key, cursor, searchComparator) <= 0) {
+                cursor = cursor.prev;
+            }
+            Node<T> newNode;
+            if (size == 0) {
+                newNode = head = tail = allocateNode(item, null, null);
+            } else if (isNull(cursor)) {
+                newNode = head = insertBefore(head, item);
+            } else {
+                newNode = insertAfter(cursor, item);
+                if (cursor == tail) {
+                    tail = newNode;
+                }
+            }
+            linkToHashIndex(newNode);
+            size++;
+        }
+        List<T> evicted = size + nullCount > capacity ? detachOverflow() : null;
+        if (isIndexed()) {
+            index.rebuild(head, size);
+        }
+        if (nonNull(evicted)) {
+            evicted.forEach(evictionListener);
+        }
+    }
+
+    //cuts the items beyond the capacity off the end of the list, leaving the index to the caller
+    private List<T> detachOverflow() {
+        int overflow = size + nullCount - capacity;
+        List<T> evicted = new ArrayList<>(overflow);
+        boolean trailingNulls = addNullsStrategy == AddNullsStrategy.TRAILING_NULLS;
+        int evictedNulls = trailingNulls ? Math.min(nullCount, overflow) : Math.max(0, overflow - size);
+        int evictedNodes = overflow - evictedNulls;
+        if (!trailingNulls) {
+            evicted.addAll(Collections.nCopies(evictedNulls, null));
+        }
+        if (evictedNodes > 0) {
+            Node<T> first = tail;
+            for (int i = 1; i < evictedNodes; i++) {
+                first = first.prev;
+            }
+            for (Node<T> node = first; nonNull(node); node = node.next) {
+                evicted.add(node.item);
+            }
+            detachRun(first, tail, evictedNodes);
+        }
+        if (trailingNulls) {
+            evicted.addAll(Collections.nCopies(evictedNulls, null));
+        }
+        nullCount -= evictedNulls;
+        return evicted;
+    }
+
+    private Iterator<T> descendingIterator() {
+        return new Iterator<>() {
+            private Node<T> next = tail;
+
+            public boolean hasNext() {
+                return nonNull(next);
+            }
+
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                T item = next.item;
+                next = next.prev;
+                return item;
+            }
+        };
+    }
+
+    private void addIndexed(T item) {
+        Node<T> pred = index.findPredecessor(item, sortKeyOf(item), nonNull(sortKey), head, searchComparator(),
+                false);
+        Node<T> newNode;
+        if (size == 0) {
+            newNode = head = tail = allocateNode(item, null, null);
+        } else if (isNull(pred)) {
+            newNode = head = insertBefore(head, item);
+        } else {
+            newNode = insertAfter(pred, item);
+            if (pred == tail) {
+                tail = newNode;
+            }
+        }
+        index.link(newNode, size);
+        linkToHashIndex(newNode);
+    }
+
+    private Node<T> findIndexedNode(int position) {
+        Node<T> pred = index.findPredecessorAt(position, head);
+        return isNull(pred) ? head : pred.next;
+    }
+
+    private Node<T> findIndexedNode(T item) {
+        if (size == 0) {
             return null;
         }
-        Iterator<T> iterator = iterator();
-        Node<T> node = null;
-        boolean found = false;
-        while (iterator.hasNext() && !found) {
-            node = ((SortedListIterator) iterator).nextNode();
-            found = comparator.compare(item, node.item) == 0;
+        Comparator<T> searchComparator = searchComparator();
+        long key = sortKeyOf(item);
+        Node<T> pred = index.findPredecessor(item, key, nonNull(sortKey), head, searchComparator, false);
+        Node<T> node = isNull(pred) ? head : pred.next;
+        return nonNull(node) && compareToNode(item, key, node, searchComparator) == 0 ? node : null;
+    }
+
+    //equal items are adjacent, so a node linked right before the first of its run becomes the new first
+    private void linkToHashIndex(Node<T> node) {
+        if (isNull(hashIndex)) {
+            return;
+        }
+        ValueRun<T> run = hashIndex.get(node.item);
+        if (isNull(run)) {
+            hashIndex.put(node.item, new ValueRun<>(node));
+            return;
+        }
+        run.count++;
+        if (node.next == run.first) {
+            run.first = node;
+        }
+    }
+
+    private void unlinkFromHashIndex(Node<T> node) {
+        ValueRun<T> run = hashIndex.get(node.item);
+        if (--run.count == 0) {
+            hashIndex.remove(node.item);
+        } else if (run.first == node) {
+            run.first = node.next;
+        }
+    }
+
+    private void rebuildHashIndex() {
+        hashIndex = new HashMap<>();
+        for (Node<T> node = head; nonNull(node); node = node.next) {
+            ValueRun<T> run = hashIndex.get(node.item);
+            if (isNull(run)) {
+                hashIndex.put(node.item, new ValueRun<>(node));
+            } else {
+                run.count++;
+            }
         }
-        return found ? node : null;
     }
 
-    public Iterator<T> iterator() {
-        return new SortedListIterator(0);
+    private long sortKeyOf(T item) {
+        return isNull(sortKey) ? 0 : sortKey.applyAsLong(item);
+    }
+
+    private int compareToNode(T item, long key, Node<T> node, Comparator<T> searchComparator) {
+        return compareToNode(item, key, nonNull(sortKey), node, searchComparator);
+    }
+
+    //orders item against node by the cached keys of keyed lists, the comparator only decides between equal keys
+    private static <E> int compareToNode(E item, long key, boolean keyed, Node<E> node, Comparator<E> comparator) {
+        if (keyed) {
+            int compareResult = Long.compare(key, ((KeyedNode<E>) node).key);
+            if (compareResult != 0) {
+                return compareResult;
+            }
+        }
+        return comparator.compare(item, node.item);
+    }
+
+    private int leadingNulls() {
+        return addNullsStrategy == AddNullsStrategy.LEADING_NULLS ? nullCount : 0;
+    }
+
+    private boolean lastIsNull() {
+        return nullCount > 0 && (addNullsStrategy == AddNullsStrategy.TRAILING_NULLS || size == 0);
     }
 
-    private Node<T> findInsertNodePosition(T item) {
-        Objects.requireNonNull(item);
-        Iterator<T> iterator = iterator();
-        Node<T> node = null;
-        boolean insertPositionFound = false;
-        while (iterator.hasNext() && !insertPositionFound) {
-            node = ((SortedListIterator) iterator).nextNode();
-            insertPositionFound = comparator.compare(item, node.item) <= 0;
-        }
-        return node;
+    //comparator for searches, counting the comparisons while metrics are enabled
+    private Comparator<T> searchComparator() {
+        return isNull(metrics) ? chainComparator : countingComparator;
     }
 
-    private void addNullItem() {
-        if (isEmpty()) {
-            head = tail = new Node<>(null, null, null);
-            return;
-        }
-        if (addNullsStrategy == AddNullsStrategy.TRAILING_NULLS) {
-            tail = insertAfter(tail, null);
-        } else {
-            head = insertBefore(head, null);
+    private void recordTraversal(int nodes) {
+        if (nonNull(metrics)) {
+            metrics.recordTraversal(nodes);
         }
     }
 
     private void checkIndex(int index) {
-        if (index < 0 || index >= size) {
-            String message = String.format(INDEX_OUT_OF_BOUND_EXCEPTION, index, size);
+        if (index < 0 || index >= size + nullCount) {
+            String message = String.format(INDEX_OUT_OF_BOUND_EXCEPTION, index, size + nullCount);
             throw new IndexOutOfBoundsException(message);
         }
     }
@@ -301,15 +1332,372 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         return hashCode;
     }
 
+    static <E> Comparator<E> createComparator(AddNullsStrategy addNullsStrategy, boolean reversed) {
+        return reversed
+                ? new ReversedComparator<>(addNullsStrategy)
+                : new DefaultComparator<>(addNullsStrategy);
+    }
+
+    //like TreeMap, lists built without a comparator take any type and fail on items that are not Comparable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Comparator<E> naturalOrder(boolean reversed) {
+        return (Comparator<E>) (reversed ? Comparator.<Comparable>reverseOrder() : Comparator.<Comparable>naturalOrder());
+    }
+
     public Spliterator<T> getSpliterator() {
-        return new SortedListSpliterator<>(this, -1);
+        return new SortedListSpliterator<>(this);
     }
 
     public Stream<T> stream() {
         return StreamSupport.stream(getSpliterator(), false);
     }
 
-    private static final class Node<T> {
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(getSpliterator(), true);
+    }
+
+    //reads the list through its bounds on every call, so it reflects later changes of the list; the first item
+    //is found through the skip-list index in O(log n) when the list has one, otherwise by a walk from the head
+    public static final class RangeView<T> implements Iterable<T> {
+
+        private final SortedLinkedList<T> list;
+        private final boolean hasFrom;
+        private final T from;
+        private final boolean fromInclusive;
+        private final boolean hasTo;
+        private final T to;
+        private final boolean toInclusive;
+
+        private RangeView(SortedLinkedList<T> list, boolean hasFrom, T from, boolean fromInclusive,
+                          boolean hasTo, T to, boolean toInclusive) {
+            this.list = list;
+            this.hasFrom = hasFrom;
+            this.from = from;
+            this.fromInclusive = fromInclusive;
+            this.hasTo = hasTo;
+            this.to = to;
+            this.toInclusive = toInclusive;
+        }
+
+        //O(log n) for indexed lists, otherwise a walk up to the end of the range
+        public int size() {
+            int nulls = nullsInRange();
+            if (list.isIndexed()) {
+                return nulls + Math.max(0, endPosition() - startPosition());
+            }
+            int count = nulls;
+            for (Node<T> node = first(); nonNull(node) && !isAboveRange(node.item); node = node.next) {
+                count++;
+            }
+            return count;
+        }
+
+        public boolean isEmpty() {
+            if (nullsInRange() > 0) {
+                return false;
+            }
+            Node<T> node = first();
+            return isNull(node) || isAboveRange(node.item);
+        }
+
+        public List<T> toList() {
+            List<T> result = new ArrayList<>();
+            forEach(result::add);
+            return result;
+        }
+
+        public Iterator<T> iterator() {
+            int nulls = nullsInRange();
+            boolean leadingNulls = list.addNullsStrategy == AddNullsStrategy.LEADING_NULLS;
+            return new Iterator<>() {
+                private int nullsBefore = leadingNulls ? nulls : 0;
+                private Node<T> next = first();
+                private int nullsAfter = leadingNulls ? 0 : nulls;
+
+                public boolean hasNext() {
+                    return nullsBefore > 0 || hasNextNode() || nullsAfter > 0;
+                }
+
+                public T next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+
+                    if (nullsBefore > 0) {
+                        nullsBefore--;
+                        return null;
+                    }
+                    if (!hasNextNode()) {
+                        nullsAfter--;
+                        return null;
+                    }
+                    T item = next.item;
+                    next = next.next;
+                    return item;
+                }
+
+                private boolean hasNextNode() {
+                    return nonNull(next) && !isAboveRange(next.item);
+                }
+            };
+        }
+
+        //the range is resolved when the terminal operation starts
+        public Stream<T> stream() {
+            return StreamSupport.stream(this::getSpliterator, SortedListSpliterator.CHARACTERISTICS, false);
+        }
+
+        public Stream<T> parallelStream() {
+            return StreamSupport.stream(this::getSpliterator, SortedListSpliterator.CHARACTERISTICS, true);
+        }
+
+        public Spliterator<T> getSpliterator() {
+            SortedLinkedList<T> list = this.list;
+            list.flush();
+            Index<T> indexTop = list.isIndexed() ? list.index.top : null;
+            int start;
+            int end;
+            Node<T> node;
+            if (list.isIndexed()) {
+                end = endPosition();
+                start = startPosition();
+                node = start < list.size ? SkipListIndex.nodeAt(indexTop, start, list.head) : null;
+            } else {
+                start = 0;
+                node = list.head;
+                while (nonNull(node) && isBelowRange(node.item)) {
+                    node = node.next;
+                    start++;
+                }
+                end = start;
+                for (Node<T> last = node; nonNull(last) && !isAboveRange(last.item); last = last.next) {
+                    end++;
+                }
+            }
+            //in list positions; nulls only fall in a range reaching the list end they are on
+            int chainStart = list.leadingNulls();
+            int lo = chainStart + start;
+            int hi = chainStart + Math.max(start, end);
+            if (nullsInRange() > 0) {
+                if (chainStart > 0) {
+                    lo = 0;
+                } else {
+                    hi += list.nullCount;
+                }
+            }
+            return new SortedListSpliterator<>(list.head, indexTop, node, lo, hi, chainStart,
+                    chainStart + list.size, list.comparator, 0);
+        }
+
+        private int nullsInRange() {
+            list.flush();
+            return list.nullCount > 0 && !isBelowRange(null) && !isAboveRange(null) ? list.nullCount : 0;
+        }
+
+        private Node<T> first() {
+            list.flush();
+            if (!list.isIndexed()) {
+                Node<T> node = list.head;
+                while (nonNull(node) && isBelowRange(node.item)) {
+                    node = node.next;
+                }
+                return node;
+            }
+            if (!hasFrom || list.size == 0) {
+                return list.head;
+            }
+            Node<T> pred = list.index.findPredecessor(from, list.head, list.comparator, !fromInclusive);
+            return isNull(pred) ? list.head : pred.next;
+        }
+
+        //number of chain items ordered before the range
+        private int startPosition() {
+            list.flush();
+            if (!hasFrom || list.size == 0) {
+                return 0;
+            }
+            list.index.findPredecessor(from, list.head, list.comparator, !fromInclusive);
+            return list.index.predecessorRank();
+        }
+
+        //number of chain items ordered before the end of the range or within it
+        private int endPosition() {
+            list.flush();
+            if (!hasTo || list.size == 0) {
+                return list.size;
+            }
+            list.index.findPredecessor(to, list.head, list.comparator, toInclusive);
+            return list.index.predecessorRank();
+        }
+
+        private boolean isBelowRange(T item) {
+            if (!hasFrom) {
+                return false;
+            }
+            int compareResult = list.comparator.compare(item, from);
+            return fromInclusive ? compareResult < 0 : compareResult <= 0;
+        }
+
+        private boolean isAboveRange(T item) {
+            if (!hasTo) {
+                return false;
+            }
+            int compareResult = list.comparator.compare(item, to);
+            return toInclusive ? compareResult > 0 : compareResult >= 0;
+        }
+    }
+
+    private static final class MergeIterator<T> implements Iterator<T> {
+
+        private final PriorityQueue<Cursor<T>> cursors;
+        private int remaining;
+        private int leadingNulls;
+
+        MergeIterator(Collection<? extends SortedLinkedList<T>> lists) {
+            SortedLinkedList<T> first = lists.isEmpty() ? null : lists.iterator().next();
+            Comparator<T> comparator = isNull(first) ? null : first.comparator;
+            Comparator<T> chainComparator = isNull(first) ? null : first.chainComparator;
+            Comparator<Cursor<T>> cursorComparator = (c1, c2) -> {
+                int compareResult = chainComparator.compare(c1.node.item, c2.node.item);
+                return compareResult != 0 ? compareResult : Integer.compare(c1.order, c2.order);
+            };
+            cursors = new PriorityQueue<>(Math.max(1, lists.size()), cursorComparator);
+            int order = 0;
+            for (SortedLinkedList<T> list : lists) {
+                if (!comparator.equals(list.comparator)) {
+                    throw new IllegalArgumentException(MERGE_ORDER_EXCEPTION);
+                }
+                list.flush();
+                if (list.size > 0) {
+                    cursors.add(new Cursor<>(list.head, list.size, order));
+                }
+                remaining += list.size + list.nullCount;
+                leadingNulls += list.leadingNulls();
+                order++;
+            }
+        }
+
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            remaining--;
+            if (leadingNulls > 0) {
+                leadingNulls--;
+                return null;
+            }
+            //the trailing nulls follow the last chain item
+            if (cursors.isEmpty()) {
+                return null;
+            }
+            Cursor<T> cursor = cursors.poll();
+            T item = cursor.node.item;
+            if (--cursor.remaining > 0) {
+                cursor.node = cursor.node.next;
+                cursors.add(cursor);
+            }
+            return item;
+        }
+
+        private static final class Cursor<T> {
+            private final int order;
+            private Node<T> node;
+            private int remaining;
+
+            Cursor(Node<T> node, int remaining, int order) {
+                this.node = node;
+                this.remaining = remaining;
+                this.order = order;
+            }
+        }
+    }
+
+    //where add starts looking for the insert position when the item is neither the least nor the greatest
+    public enum Hint {
+        //forward from the least item
+        HEAD,
+        //backward from the greatest item
+        TAIL,
+        //outward from the previously inserted item, suits nearly sorted input
+        LAST_INSERT
+    }
+
+    //immutable view of the list at the moment snapshot() was called, safe to read from any thread without locking
+    public static final class Snapshot<T> implements Iterable<T> {
+
+        private final Node<T> head;
+        private final int size;
+        //positions of the chain, the ones before and after it hold nulls
+        private final int chainStart;
+        private final int chainEnd;
+        private final Index<T> indexTop;
+        private final Comparator<T> comparator;
+
+        private Snapshot(Node<T> head, int size, int chainStart, int chainEnd, Index<T> indexTop,
+                         Comparator<T> comparator) {
+            this.head = head;
+            this.size = size;
+            this.chainStart = chainStart;
+            this.chainEnd = chainEnd;
+            this.indexTop = indexTop;
+            this.comparator = comparator;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                String message = String.format(INDEX_OUT_OF_BOUND_EXCEPTION, index, size);
+                throw new IndexOutOfBoundsException(message);
+            }
+            if (index < chainStart || index >= chainEnd) {
+                return null;
+            }
+            int chainPosition = index - chainStart;
+            if (nonNull(indexTop)) {
+                return SkipListIndex.nodeAt(indexTop, chainPosition, head).item;
+            }
+            Node<T> node = head;
+            for (int i = 0; i < chainPosition; i++) {
+                node = node.next;
+            }
+            return node.item;
+        }
+
+        public List<T> toList() {
+            List<T> result = new ArrayList<>(size);
+            forEach(result::add);
+            return result;
+        }
+
+        public Iterator<T> iterator() {
+            return Spliterators.iterator(getSpliterator());
+        }
+
+        public Spliterator<T> getSpliterator() {
+            return new SortedListSpliterator<>(head, indexTop, head, 0, size, chainStart, chainEnd, comparator,
+                    Spliterator.IMMUTABLE);
+        }
+
+        public Stream<T> stream() {
+            return StreamSupport.stream(getSpliterator(), false);
+        }
+
+        public Stream<T> parallelStream() {
+            return StreamSupport.stream(getSpliterator(), true);
+        }
+    }
+
+    private static class Node<T> {
         private T item;
         private Node<T> next;
         private Node<T> prev;
@@ -321,7 +1709,279 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         }
     }
 
-    private static class DefaultComparator<E extends Comparable<E>> implements Comparator<E> {
+    private static final class ValueRun<T> {
+        private Node<T> first;
+        private int count;
+
+        ValueRun(Node<T> first) {
+            this.first = first;
+            this.count = 1;
+        }
+    }
+
+    //node of a list with a sort key, all nodes of such a list are keyed
+    private static final class KeyedNode<T> extends Node<T> {
+        private long key;
+
+        KeyedNode(T item, Node<T> next, Node<T> prev, long key) {
+            super(item, next, prev);
+            this.key = key;
+        }
+    }
+
+    //indexable skip list built over the node chain: the chain itself is the bottom level and every index link
+    //keeps the number of chain nodes it spans, so search by value and by position are both O(log n)
+    private static final class SkipListIndex<E> {
+
+        private static final int MAX_LEVEL = 16;
+
+        private final Index<E>[] update;
+        private final int[] rank;
+        private Index<E> top;
+        private int levels;
+        private int predecessorRank;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        SkipListIndex() {
+            update = (Index<E>[]) new Index[MAX_LEVEL];
+            rank = new int[MAX_LEVEL];
+            clear();
+        }
+
+        void clear() {
+            top = new Index<>(null, null, null, 0);
+            levels = 1;
+        }
+
+        //rebuilds all index levels over the chain in a single pass
+        void rebuild(Node<E> head, int size) {
+            clear();
+            update[0] = top;
+            rank[0] = 0;
+            int r = 0;
+            for (Node<E> node = head; nonNull(node); node = node.next) {
+                r++;
+                int height = randomLevel();
+                for (; levels < height; levels++) {
+                    top = new Index<>(null, top, null, 0);
+                    update[levels] = top;
+                    rank[levels] = 0;
+                }
+                Index<E> below = null;
+                for (int level = 0; level < height; level++) {
+                    Index<E> pred = update[level];
+                    pred.span = r - rank[level];
+                    below = pred.right = new Index<>(node, below, null, 0);
+                    update[level] = below;
+                    rank[level] = r;
+                }
+            }
+            for (int level = 0; level < levels; level++) {
+                update[level].span = size - rank[level];
+            }
+        }
+
+        //returns the last node ordered before item (null for the head position) and records the path to it
+        Node<E> findPredecessor(E item, Node<E> head, Comparator<E> comparator) {
+            return findPredecessor(item, head, comparator, false);
+        }
+
+        //same as above, but with includeEqual the returned node is the last one not ordered after item
+        Node<E> findPredecessor(E item, Node<E> head, Comparator<E> comparator, boolean includeEqual) {
+            return findPredecessor(item, 0, false, head, comparator, includeEqual);
+        }
+
+        //same as above, comparing by the cached node keys first in keyed lists
+        Node<E> findPredecessor(E item, long key, boolean keyed, Node<E> head, Comparator<E> comparator,
+                                boolean includeEqual) {
+            //compare(item, node) > bound means node precedes item, or equals it when equal nodes are included
+            int bound = includeEqual ? -1 : 0;
+            Index<E> x = top;
+            int r = 0;
+            for (int level = levels - 1; ; level--) {
+                while (nonNull(x.right) && compareToNode(item, key, keyed, x.right.node, comparator) > bound) {
+                    r += x.span;
+                    x = x.right;
+                }
+                update[level] = x;
+                rank[level] = r;
+                if (level == 0) {
+                    break;
+                }
+                x = x.down;
+            }
+            Node<E> pred = x.node;
+            Node<E> next = isNull(pred) ? head : pred.next;
+            while (nonNull(next) && compareToNode(item, key, keyed, next, comparator) > bound) {
+                pred = next;
+                next = next.next;
+                r++;
+            }
+            predecessorRank = r;
+            return pred;
+        }
+
+        //position of the first node equal to item or -1; unlike the find calls it records nothing, so concurrent
+        //readers may run it
+        int rankOf(E item, long key, boolean keyed, Node<E> head, Comparator<E> comparator) {
+            Index<E> x = top;
+            int r = 0;
+            while (true) {
+                while (nonNull(x.right) && compareToNode(item, key, keyed, x.right.node, comparator) > 0) {
+                    r += x.span;
+                    x = x.right;
+                }
+                if (isNull(x.down)) {
+                    break;
+                }
+                x = x.down;
+            }
+            Node<E> next = isNull(x.node) ? head : x.node.next;
+            while (nonNull(next) && compareToNode(item, key, keyed, next, comparator) > 0) {
+                next = next.next;
+                r++;
+            }
+            return nonNull(next) && compareToNode(item, key, keyed, next, comparator) == 0 ? r : -1;
+        }
+
+        //returns the node preceding the given position (null for position 0) and records the path to it
+        Node<E> findPredecessorAt(int position, Node<E> head) {
+            Index<E> x = top;
+            int r = 0;
+            for (int level = levels - 1; ; level--) {
+                while (nonNull(x.right) && r + x.span <= position) {
+                    r += x.span;
+                    x = x.right;
+                }
+                update[level] = x;
+                rank[level] = r;
+                if (level == 0) {
+                    break;
+                }
+                x = x.down;
+            }
+            Node<E> pred = x.node;
+            for (; r < position; r++) {
+                pred = isNull(pred) ? head : pred.next;
+            }
+            predecessorRank = position;
+            return pred;
+        }
+
+        //rank of the node returned by the last find call, i.e. the number of nodes up to and including it
+        int predecessorRank() {
+            return predecessorRank;
+        }
+
+        Node<E> nodeAt(int position, Node<E> head) {
+            return nodeAt(top, position, head);
+        }
+
+        static <E> Node<E> nodeAt(Index<E> top, int position, Node<E> head) {
+            Index<E> x = top;
+            int r = 0;
+            while (true) {
+                while (nonNull(x.right) && r + x.span <= position + 1) {
+                    r += x.span;
+                    x = x.right;
+                }
+                if (isNull(x.down)) {
+                    break;
+                }
+                x = x.down;
+            }
+            Node<E> node = isNull(x.node) ? head : x.node;
+            for (int i = Math.max(r, 1); i <= position; i++) {
+                node = node.next;
+            }
+            return node;
+        }
+
+        //must follow a find call for the node preceding the linked one
+        void link(Node<E> node, int oldSize) {
+            int height = randomLevel();
+            for (; levels < height; levels++) {
+                top = new Index<>(null, top, null, oldSize);
+                update[levels] = top;
+                rank[levels] = 0;
+            }
+            Index<E> below = null;
+            for (int level = 0; level < height; level++) {
+                Index<E> pred = update[level];
+                int distance = predecessorRank - rank[level];
+                below = pred.right = new Index<>(node, below, pred.right, pred.span - distance);
+                pred.span = distance + 1;
+            }
+            for (int level = height; level < levels; level++) {
+                update[level].span++;
+            }
+        }
+
+        //must follow a find call for the node preceding the unlinked one
+        void unlink(Node<E> node) {
+            for (int level = 0; level < levels; level++) {
+                Index<E> pred = update[level];
+                if (nonNull(pred.right) && pred.right.node == node) {
+                    pred.span += pred.right.span - 1;
+                    pred.right = pred.right.right;
+                } else {
+                    pred.span--;
+                }
+            }
+            while (levels > 1 && isNull(top.right)) {
+                top = top.down;
+                levels--;
+            }
+        }
+
+        //removes the index entries of count adjacent nodes following the node of the last find call
+        void unlinkRun(int count) {
+            int end = predecessorRank + count;
+            for (int level = 0; level < levels; level++) {
+                Index<E> pred = update[level];
+                Index<E> right = pred.right;
+                int span = pred.span;
+                while (nonNull(right) && rank[level] + span <= end) {
+                    span += right.span;
+                    right = right.right;
+                }
+                pred.right = right;
+                pred.span = span - count;
+            }
+            while (levels > 1 && isNull(top.right)) {
+                top = top.down;
+                levels--;
+            }
+        }
+
+        private static int randomLevel() {
+            //every level is promoted with probability 1/4
+            int random = ThreadLocalRandom.current().nextInt();
+            int level = 0;
+            while ((random & 3) == 0 && level < MAX_LEVEL - 1) {
+                level++;
+                random >>>= 2;
+            }
+            return level;
+        }
+    }
+
+    private static final class Index<E> {
+        private final Node<E> node;
+        private final Index<E> down;
+        private Index<E> right;
+        //number of chain nodes between node and right.node, or up to the end of the list for the last index
+        private int span;
+
+        Index(Node<E> node, Index<E> down, Index<E> right, int span) {
+            this.node = node;
+            this.down = down;
+            this.right = right;
+            this.span = span;
+        }
+    }
+
+    private static class DefaultComparator<E> implements Comparator<E> {
 
         private final AddNullsStrategy addNullsStrategy;
 
@@ -330,18 +1990,30 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public int compare(E o1, E o2) {
             if (o1 == o2)
                 return 0;
             if (o1 == null)
-                return addNullsStrategy == AddNullsStrategy.LEADING_NULLS ? 1 : -1;
+                return addNullsStrategy == AddNullsStrategy.LEADING_NULLS ? -1 : 1;
             if (o2 == null)
                 return addNullsStrategy == AddNullsStrategy.TRAILING_NULLS ? -1 : 1;
-            return o1.compareTo(o2);
+            return ((Comparable<E>) o1).compareTo(o2);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DefaultComparator
+                    && ((DefaultComparator<?>) o).addNullsStrategy == addNullsStrategy;
+        }
+
+        @Override
+        public int hashCode() {
+            return addNullsStrategy.hashCode();
         }
     }
 
-    private static class ReversedComparator<E extends Comparable<E>> implements Comparator<E> {
+    private static class ReversedComparator<E> implements Comparator<E> {
 
         private final AddNullsStrategy addNullsStrategy;
 
@@ -350,72 +2022,156 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public int compare(E o1, E o2) {
             if (o1 == o2)
                 return 0;
             if (o1 == null)
-                return addNullsStrategy == AddNullsStrategy.LEADING_NULLS ? 1 : -1;
+                return addNullsStrategy == AddNullsStrategy.LEADING_NULLS ? -1 : 1;
             if (o2 == null)
                 return addNullsStrategy == AddNullsStrategy.TRAILING_NULLS ? -1 : 1;
-            return o2.compareTo(o1);
+            return ((Comparable<E>) o2).compareTo(o1);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ReversedComparator
+                    && ((ReversedComparator<?>) o).addNullsStrategy == addNullsStrategy;
+        }
+
+        @Override
+        public int hashCode() {
+            return -addNullsStrategy.hashCode();
         }
     }
 
-    private class SortedListIterator implements Iterator<T> {
-        private SortedLinkedList.Node<T> next;
-        private int nextIndex;
+    //null order of the strategy around a comparator given to the constructor
+    private static class DelegatingComparator<E> implements Comparator<E> {
 
-        SortedListIterator(int index) {
-            checkIndex(index);
-            next = getNode(index);
-            nextIndex = index;
+        private final AddNullsStrategy addNullsStrategy;
+        private final Comparator<? super E> comparator;
+
+        public DelegatingComparator(AddNullsStrategy addNullsStrategy, Comparator<? super E> comparator) {
+            this.addNullsStrategy = addNullsStrategy;
+            this.comparator = Objects.requireNonNull(comparator);
         }
 
-        public boolean hasNext() {
-            return nextIndex < size;
+        @Override
+        public int compare(E o1, E o2) {
+            if (o1 == o2)
+                return 0;
+            if (o1 == null)
+                return addNullsStrategy == AddNullsStrategy.LEADING_NULLS ? -1 : 1;
+            if (o2 == null)
+                return addNullsStrategy == AddNullsStrategy.TRAILING_NULLS ? -1 : 1;
+            return comparator.compare(o1, o2);
         }
 
-        public T next() {
-            if (!hasNext())
-                throw new NoSuchElementException();
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DelegatingComparator
+                    && ((DelegatingComparator<?>) o).addNullsStrategy == addNullsStrategy
+                    && ((DelegatingComparator<?>) o).comparator.equals(comparator);
+        }
 
-            SortedLinkedList.Node<T> last = next;
-            next = next.next;
-            nextIndex++;
-            return last.item;
+        @Override
+        public int hashCode() {
+            return 31 * addNullsStrategy.hashCode() + comparator.hashCode();
         }
+    }
+
+    //yields the leading nulls, the chain and then the trailing nulls
+    private class SortedListIterator implements Iterator<T> {
+        private final int chainStart = leadingNulls();
+        private final int chainEnd = chainStart + size;
+        private final int end = size + nullCount;
+        private SortedLinkedList.Node<T> next = head;
+        private int nextIndex;
 
-        SortedLinkedList.Node<T> nextNode() {
+        public boolean hasNext() {
+            return nextIndex < end;
+        }
+
+        public T next() {
             if (!hasNext())
                 throw new NoSuchElementException();
 
+            int position = nextIndex++;
+            if (position < chainStart || position >= chainEnd) {
+                return null;
+            }
             SortedLinkedList.Node<T> last = next;
             next = next.next;
-            nextIndex++;
-            return last;
+            return last.item;
         }
     }
 
-    static class SortedListSpliterator<E extends Comparable<E>> implements Spliterator<E> {
+    //splits by position without copying: the midpoint is found through the skip-list index when there is one
+    static class SortedListSpliterator<E> implements Spliterator<E> {
 
-        private static final int BATCH_SIZE = 1024 * 1024;
-        private final SortedLinkedList<E> list;
-        private Node<E> currentNode;
-        private int estSize;
+        static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.SORTED;
 
-        public SortedListSpliterator(SortedLinkedList<E> list, int estSize) {
+        private final SortedLinkedList<E> list;
+        private final Comparator<? super E> comparator;
+        private final int additionalCharacteristics;
+        private Node<E> head;
+        private Index<E> indexTop;
+        //chain node of position max(index, chainStart), null past the chain
+        private Node<E> current;
+        private int index;
+        //exclusive end position, -1 until the spliterator is bound to the list on first use
+        private int fence;
+        //positions of the chain, the ones before and after it hold nulls
+        private int chainStart;
+        private int chainEnd;
+
+        public SortedListSpliterator(SortedLinkedList<E> list) {
             this.list = list;
-            this.estSize = estSize;
+            this.comparator = list.comparator;
+            this.additionalCharacteristics = 0;
+            this.fence = -1;
+        }
+
+        private SortedListSpliterator(Node<E> head, Index<E> indexTop, Node<E> current, int index, int fence,
+                                      int chainStart, int chainEnd, Comparator<? super E> comparator,
+                                      int additionalCharacteristics) {
+            this.list = null;
+            this.comparator = comparator;
+            this.additionalCharacteristics = additionalCharacteristics;
+            this.head = head;
+            this.indexTop = indexTop;
+            this.current = current;
+            this.index = index;
+            this.fence = fence;
+            this.chainStart = chainStart;
+            this.chainEnd = chainEnd;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                list.flush();
+                head = current = list.head;
+                indexTop = list.isIndexed() ? list.index.top : null;
+                index = 0;
+                chainStart = list.leadingNulls();
+                chainEnd = chainStart + list.size;
+                fence = list.size + list.nullCount;
+            }
+            return fence;
         }
 
         @Override
         public boolean tryAdvance(Consumer<? super E> action) {
             if (action == null)
                 throw new NullPointerException();
-            if (nonNull(currentNode)) {
-                --estSize;
-                E e = currentNode.item;
-                currentNode = currentNode.next;
+            if (index < getFence()) {
+                E e = null;
+                if (index >= chainStart && index < chainEnd) {
+                    e = current.item;
+                    current = current.next;
+                }
+                index++;
                 action.accept(e);
                 return true;
             }
@@ -425,55 +2181,61 @@ public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
         @Override
         public void forEachRemaining(Consumer<? super E> action) {
             if (action == null) throw new NullPointerException();
-            if (estSize > 0 && currentNode != null) {
-                do {
-                    E e = currentNode.item;
-                    currentNode = currentNode.next;
-                    action.accept(e);
-                } while (currentNode != null && estSize > 0);
-                estSize = 0;
-                currentNode = null;
+            int hi = getFence();
+            Node<E> node = current;
+            int i = index;
+            current = null;
+            index = hi;
+            for (; i < hi; i++) {
+                E e = null;
+                if (i >= chainStart && i < chainEnd) {
+                    e = node.item;
+                    node = node.next;
+                }
+                action.accept(e);
             }
         }
 
         @Override
         public Spliterator<E> trySplit() {
-            if (estSize > 1 && nonNull(currentNode)) {
-                int n = Math.min(BATCH_SIZE, estSize);
-                Object[] a = new Object[n];
-                for (int i = 0; i < n && nonNull(currentNode); i++) {
-                    a[i] = currentNode.item;
-                    currentNode = currentNode.next;
-                    estSize--;
+            int lo = index;
+            int mid = (lo + getFence()) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            Node<E> midNode;
+            if (mid <= chainStart) {
+                midNode = current;
+            } else if (mid >= chainEnd) {
+                midNode = null;
+            } else if (nonNull(indexTop)) {
+                midNode = SkipListIndex.nodeAt(indexTop, mid - chainStart, head);
+            } else {
+                midNode = current;
+                for (int i = Math.max(lo, chainStart); i < mid; i++) {
+                    midNode = midNode.next;
                 }
-                return Spliterators.spliterator(a, 0, n, Spliterator.ORDERED);
             }
-            return null;
+            Spliterator<E> prefix = new SortedListSpliterator<>(head, indexTop, current, lo, mid,
+                    chainStart, chainEnd, comparator, additionalCharacteristics);
+            current = midNode;
+            index = mid;
+            return prefix;
         }
 
         @Override
         public long estimateSize() {
-            int s;
-            SortedLinkedList<E> lst;
-            if ((s = estSize) < 0) {
-                if ((lst = list) == null)
-                    s = estSize = 0;
-                else {
-                    currentNode = lst.head;
-                    s = estSize = lst.size;
-                }
-            }
-            return s;
+            return getFence() - index;
         }
 
         @Override
         public int characteristics() {
-            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED;
+            return CHARACTERISTICS | additionalCharacteristics;
         }
 
         @Override
         public Comparator<? super E> getComparator() {
-            return list.comparator;
+            return comparator;
         }
     }
 }
@@ -0,0 +1,275 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+//sorted list storing equal items (per the comparator) once with a count, suited for low-cardinality data;
+//iteration repeats the first added instance of every group as many times as it was added
+public class SortedLinkedMultiset<T extends Comparable<T>> implements Iterable<T> {
+
+    private static final String OCCURRENCES_EXCEPTION = "Occurrences %d must not be negative";
+
+    private final Comparator<T> comparator;
+
+    private int size = 0;
+    private int distinctSize = 0;
+    private Node<T> head;
+    private Node<T> tail;
+
+    public SortedLinkedMultiset() {
+        this(AddNullsStrategy.TRAILING_NULLS, false);
+    }
+
+    public SortedLinkedMultiset(boolean reversed) {
+        this(AddNullsStrategy.TRAILING_NULLS, reversed);
+    }
+
+    public SortedLinkedMultiset(AddNullsStrategy addNullsStrategy, boolean reversed) {
+        this.comparator = SortedLinkedList.createComparator(addNullsStrategy, reversed);
+    }
+
+    public SortedLinkedMultiset(Collection<? extends T> collection) {
+        this();
+        addAll(collection);
+    }
+
+    //total number of items, duplicates included
+    public int size() {
+        return size;
+    }
+
+    //number of groups of equal items, i.e. of nodes
+    public int distinctSize() {
+        return distinctSize;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean add(T item) {
+        add(item, 1);
+        return true;
+    }
+
+    //returns the count of the item before the call
+    public int add(T item, int occurrences) {
+        checkOccurrences(occurrences);
+        Node<T> node = findNotLess(item);
+        if (nonNull(node) && comparator.compare(item, node.item) == 0) {
+            int oldCount = node.count;
+            node.count += occurrences;
+            size += occurrences;
+            return oldCount;
+        }
+        if (occurrences > 0) {
+            insertBefore(node, item, occurrences);
+        }
+        return 0;
+    }
+
+    public boolean addAll(Collection<? extends T> collection) {
+        if (isNull(collection) || collection.isEmpty()) {
+            return false;
+        }
+        collection.forEach(this::add);
+        return true;
+    }
+
+    public int count(T item) {
+        Node<T> node = findEqual(item);
+        return isNull(node) ? 0 : node.count;
+    }
+
+    public boolean contains(T item) {
+        return nonNull(findEqual(item));
+    }
+
+    public boolean removeOne(T item) {
+        Node<T> node = findEqual(item);
+        if (isNull(node)) {
+            return false;
+        }
+        if (node.count == 1) {
+            unlink(node);
+        } else {
+            node.count--;
+        }
+        size--;
+        return true;
+    }
+
+    //removes every occurrence and returns how many there were
+    public int removeAll(T item) {
+        Node<T> node = findEqual(item);
+        if (isNull(node)) {
+            return 0;
+        }
+        int count = node.count;
+        unlink(node);
+        size -= count;
+        return count;
+    }
+
+    public void clear() {
+        Node<T> node = head;
+        while (nonNull(node)) {
+            Node<T> next = node.next;
+            node.item = null;
+            node.next = node.prev = null;
+            node = next;
+        }
+        head = tail = null;
+        size = 0;
+        distinctSize = 0;
+    }
+
+    public List<T> toList() {
+        if (isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<T> result = new ArrayList<>(size);
+        forEach(result::add);
+        return result;
+    }
+
+    //expands every group lazily, nothing is copied
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node<T> node = head;
+            private int remaining = nonNull(head) ? head.count : 0;
+
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                T item = node.item;
+                if (--remaining == 0 && nonNull(node.next)) {
+                    node = node.next;
+                    remaining = node.count;
+                }
+                return item;
+            }
+        };
+    }
+
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof SortedLinkedMultiset))
+            return false;
+
+        SortedLinkedMultiset<?> other = (SortedLinkedMultiset<?>) o;
+        if (size != other.size || distinctSize != other.distinctSize)
+            return false;
+        Node<?> otherNode = other.head;
+        for (Node<T> node = head; nonNull(node); node = node.next, otherNode = otherNode.next) {
+            if (node.count != otherNode.count)
+                return false;
+            if (!(isNull(node.item) ? isNull(otherNode.item) : node.item.equals(otherNode.item)))
+                return false;
+        }
+        return true;
+    }
+
+    public int hashCode() {
+        int hashCode = 1;
+        for (Node<T> node = head; nonNull(node); node = node.next)
+            hashCode = 31 * (31 * hashCode + (node.item == null ? 0 : node.item.hashCode())) + node.count;
+        return hashCode;
+    }
+
+    //first node whose item is not less than the given one, null if there is none
+    private Node<T> findNotLess(T item) {
+        if (isNull(tail) || comparator.compare(item, tail.item) > 0) {
+            return null;
+        }
+        Node<T> node = head;
+        while (comparator.compare(item, node.item) > 0) {
+            node = node.next;
+        }
+        return node;
+    }
+
+    private Node<T> findEqual(T item) {
+        Node<T> node = findNotLess(item);
+        return nonNull(node) && comparator.compare(item, node.item) == 0 ? node : null;
+    }
+
+    //a null node means inserting after the tail
+    private void insertBefore(Node<T> node, T item, int count) {
+        Node<T> prevNode = isNull(node) ? tail : node.prev;
+        Node<T> newNode = new Node<>(item, count, node, prevNode);
+        if (nonNull(prevNode)) {
+            prevNode.next = newNode;
+        } else {
+            head = newNode;
+        }
+        if (nonNull(node)) {
+            node.prev = newNode;
+        } else {
+            tail = newNode;
+        }
+        size += count;
+        distinctSize++;
+    }
+
+    private void unlink(Node<T> node) {
+        Node<T> prevNode = node.prev;
+        Node<T> nextNode = node.next;
+        if (nonNull(prevNode)) {
+            prevNode.next = nextNode;
+        } else {
+            head = nextNode;
+        }
+        if (nonNull(nextNode)) {
+            nextNode.prev = prevNode;
+        } else {
+            tail = prevNode;
+        }
+        node.item = null;
+        node.next = node.prev = null;
+        distinctSize--;
+    }
+
+    private void checkOccurrences(int occurrences) {
+        if (occurrences < 0) {
+            throw new IllegalArgumentException(String.format(OCCURRENCES_EXCEPTION, occurrences));
+        }
+    }
+
+    private static final class Node<T> {
+        private T item;
+        private int count;
+        private Node<T> next;
+        private Node<T> prev;
+
+        Node(T item, int count, Node<T> next, Node<T> prev) {
+            this.item = item;
+            this.count = count;
+            this.next = next;
+            this.prev = prev;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static java.util.Objects.isNull;
+
+//binary list file: a header with magic, version, nulls strategy, order flags and item count, followed by
+//the items in list order, each prefixed with its length (-1 for null); read and written through mapped windows
+final class SortedListFile {
+
+    static final long DEFAULT_WINDOW_SIZE = 1L << 28;
+
+    private static final int MAGIC = 0x534C4C46;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + 2 + Integer.BYTES;
+    private static final int NULL_LENGTH = -1;
+    private static final int REVERSED = 1;
+    //the list had a comparator of its own, which only a list given by the reader can supply
+    private static final int CUSTOM_ORDER = 2;
+    private static final String NOT_A_LIST_FILE_EXCEPTION = "%s is not a sorted list file";
+    private static final String VERSION_EXCEPTION = "%s has unsupported version %d";
+    private static final String TRUNCATED_EXCEPTION = "%s is truncated at position %d";
+    private static final String CODEC_LENGTH_EXCEPTION = "Codec wrote %d bytes for %s but announced %d";
+    private static final String ORDER_EXCEPTION = "%s was written by a list of another order";
+    private static final String CUSTOM_ORDER_EXCEPTION = "%s was written by a list with its own comparator";
+    private static final String NOT_EMPTY_EXCEPTION = "List to read into must be empty";
+
+    private SortedListFile() {
+    }
+
+    //written next to path and moved over it once complete, so a failure part way leaves the previous file intact
+    static <T> void write(SortedLinkedList<T> list, Path path, ElementCodec<? super T> codec, long windowSize)
+            throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            writeItems(list, temporary, codec, windowSize);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    private static <T> void writeItems(SortedLinkedList<T> list, Path path, ElementCodec<? super T> codec,
+                                       long windowSize) throws IOException {
+        long fileSize = HEADER_SIZE;
+        for (T item : list) {
+            fileSize += Integer.BYTES + (isNull(item) ? 0 : codec.encodedLength(item));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Window out = new Window(path, channel, FileChannel.MapMode.READ_WRITE, fileSize, windowSize);
+            ByteBuffer header = out.require(HEADER_SIZE);
+            header.putInt(MAGIC);
+            header.putShort(VERSION);
+            header.put((byte) list.getAddNullsStrategy().ordinal());
+            header.put((byte) ((list.isReversed() ? REVERSED : 0) | (list.hasOwnComparator() ? CUSTOM_ORDER : 0)));
+            header.putInt(list.size());
+            for (T item : list) {
+                if (isNull(item)) {
+                    out.require(Integer.BYTES).putInt(NULL_LENGTH);
+                    continue;
+                }
+                int length = codec.encodedLength(item);
+                ByteBuffer buffer = out.require(Integer.BYTES + length);
+                buffer.putInt(length);
+                ByteBuffer slice = buffer.slice(buffer.position(), length);
+                codec.encode(item, slice);
+                if (slice.hasRemaining()) {
+                    String message = String.format(CODEC_LENGTH_EXCEPTION, slice.position(), item, length);
+                    throw new IllegalStateException(message);
+                }
+                buffer.position(buffer.position() + length);
+            }
+            out.force();
+            channel.force(true);
+        }
+    }
+
+    static <T> SortedLinkedList<T> read(Path path, ElementCodec<T> codec, boolean indexed, long windowSize)
+            throws IOException {
+        return read(path, codec, (strategy, reversed, customOrder) -> {
+            if (customOrder) {
+                throw new IOException(String.format(CUSTOM_ORDER_EXCEPTION, path));
+            }
+            return new SortedLinkedList<>(strategy, reversed, indexed);
+        }, windowSize);
+    }
+
+    //for lists with a comparator of their own, the file only records that there was one
+    static <T> SortedLinkedList<T> read(Path path, ElementCodec<T> codec, SortedLinkedList<T> emptyList,
+                                        long windowSize) throws IOException {
+        if (!emptyList.isEmpty()) {
+            throw new IllegalArgumentException(NOT_EMPTY_EXCEPTION);
+        }
+        return read(path, codec, (strategy, reversed, customOrder) -> {
+            if (strategy != emptyList.getAddNullsStrategy() || reversed != emptyList.isReversed()
+                    || customOrder != emptyList.hasOwnComparator()) {
+                throw new IOException(String.format(ORDER_EXCEPTION, path));
+            }
+            return emptyList;
+        }, windowSize);
+    }
+
+    //the items are linked in file order without a single comparison
+    private static <T> SortedLinkedList<T> read(Path path, ElementCodec<T> codec, ListFactory<T> listFactory,
+                                                long windowSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Window in = new Window(path, channel, FileChannel.MapMode.READ_ONLY, channel.size(), windowSize);
+            ByteBuffer header = in.require(HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException(String.format(NOT_A_LIST_FILE_EXCEPTION, path));
+            }
+            short version = header.getShort();
+            if (version != VERSION) {
+                throw new IOException(String.format(VERSION_EXCEPTION, path, version));
+            }
+            int strategy = header.get();
+            int order = header.get();
+            int count = header.getInt();
+            if (strategy < 0 || strategy >= AddNullsStrategy.values().length || (order & ~(REVERSED | CUSTOM_ORDER)) != 0
+                    || count < 0) {
+                throw new IOException(String.format(NOT_A_LIST_FILE_EXCEPTION, path));
+            }
+            SortedLinkedList<T> list = listFactory.create(AddNullsStrategy.values()[strategy],
+                    (order & REVERSED) != 0, (order & CUSTOM_ORDER) != 0);
+            for (int i = 0; i < count; i++) {
+                int length = in.require(Integer.BYTES).getInt();
+                if (length == NULL_LENGTH) {
+                    list.linkLast(null);
+                    continue;
+                }
+                ByteBuffer buffer = in.require(length);
+                list.linkLast(codec.decode(buffer.slice(buffer.position(), length)));
+                buffer.position(buffer.position() + length);
+            }
+            list.finishLinking();
+            return list;
+        }
+    }
+
+    private interface ListFactory<T> {
+        SortedLinkedList<T> create(AddNullsStrategy addNullsStrategy, boolean reversed, boolean customOrder)
+                throws IOException;
+    }
+
+    //maps the file piece by piece, so files beyond the 2 GB limit of a single mapping work as well
+    static final class Window {
+        private final Path path;
+        private final FileChannel channel;
+        private final FileChannel.MapMode mode;
+        private final long fileSize;
+        private final long windowSize;
+        private MappedByteBuffer buffer;
+        private long bufferStart;
+
+        Window(Path path, FileChannel channel, FileChannel.MapMode mode, long fileSize, long windowSize) {
+            this.path = path;
+            this.channel = channel;
+            this.mode = mode;
+            this.fileSize = fileSize;
+            this.windowSize = windowSize;
+        }
+
+        //returns the mapped buffer positioned at the current offset with at least bytes remaining
+        ByteBuffer require(int bytes) throws IOException {
+            if (bytes < 0) {
+                throw new IOException(String.format(TRUNCATED_EXCEPTION, path, position()));
+            }
+            if (isNull(buffer) || buffer.remaining() < bytes) {
+                long position = position();
+                if (position + bytes > fileSize) {
+                    throw new IOException(String.format(TRUNCATED_EXCEPTION, path, position));
+                }
+                force();
+                long size = Math.min(fileSize - position, Math.max(bytes, windowSize));
+                buffer = channel.map(mode, position, size);
+                bufferStart = position;
+            }
+            return buffer;
+        }
+
+        void force() {
+            if (mode == FileChannel.MapMode.READ_WRITE && !isNull(buffer)) {
+                buffer.force();
+            }
+        }
+
+        long position() {
+            return isNull(buffer) ? 0 : bufferStart + buffer.position();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+//opt-in counters for SortedLinkedList hot paths, safe to share between lists and to read from another thread
+public class SortedListMetrics {
+
+    private static final String THRESHOLD_EXCEPTION = "Slow operation threshold %d must not be negative";
+    private static final long DEFAULT_SLOW_OPERATION_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    public enum Operation {
+        ADD,
+        ADD_ALL,
+        GET,
+        INDEX_OF,
+        REMOVE,
+        //merge of a write buffer, the latency histogram doubles as flush count and total flush time
+        FLUSH
+    }
+
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder nodesTraversed = new LongAdder();
+    private final LongAdder headFastPathHits = new LongAdder();
+    private final LongAdder tailFastPathHits = new LongAdder();
+    private final LongAdder slowOperations = new LongAdder();
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    private final long slowOperationThresholdNanos;
+
+    public SortedListMetrics() {
+        this(DEFAULT_SLOW_OPERATION_THRESHOLD_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    //operations taking at least the threshold are counted as slow and emitted as JFR events
+    public SortedListMetrics(long slowOperationThreshold, TimeUnit unit) {
+        if (slowOperationThreshold < 0) {
+            throw new IllegalArgumentException(String.format(THRESHOLD_EXCEPTION, slowOperationThreshold));
+        }
+        this.slowOperationThresholdNanos = unit.toNanos(slowOperationThreshold);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+    }
+
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    //nodes walked by linear searches; searches through the skip-list index show up in comparisons instead
+    public long getNodesTraversed() {
+        return nodesTraversed.sum();
+    }
+
+    public long getHeadFastPathHits() {
+        return headFastPathHits.sum();
+    }
+
+    public long getTailFastPathHits() {
+        return tailFastPathHits.sum();
+    }
+
+    public long getSlowOperations() {
+        return slowOperations.sum();
+    }
+
+    public long getSlowOperationThresholdNanos() {
+        return slowOperationThresholdNanos;
+    }
+
+    public LatencyHistogram getLatency(Operation operation) {
+        return latencies.get(operation);
+    }
+
+    public void reset() {
+        comparisons.reset();
+        nodesTraversed.reset();
+        headFastPathHits.reset();
+        tailFastPathHits.reset();
+        slowOperations.reset();
+        latencies.values().forEach(LatencyHistogram::reset);
+    }
+
+    <E> Comparator<E> counting(Comparator<E> comparator) {
+        return (o1, o2) -> {
+            comparisons.increment();
+            return comparator.compare(o1, o2);
+        };
+    }
+
+    void recordTraversal(int nodes) {
+        nodesTraversed.add(nodes);
+    }
+
+    void recordHeadFastPath() {
+        headFastPathHits.increment();
+    }
+
+    void recordTailFastPath() {
+        tailFastPathHits.increment();
+    }
+
+    void record(Operation operation, long startNanos, int size) {
+        long duration = System.nanoTime() - startNanos;
+        latencies.get(operation).record(duration);
+        if (duration >= slowOperationThresholdNanos) {
+            slowOperations.increment();
+            SlowOperationEvent event = new SlowOperationEvent();
+            if (event.isEnabled()) {
+                event.operation = operation.name();
+                event.elapsed = duration;
+                event.size = size;
+                event.commit();
+            }
+        }
+    }
+
+    //power of two buckets: bucket 0 counts zero durations, bucket i counts [2^(i-1), 2^i) nanoseconds
+    public static final class LatencyHistogram {
+
+        private static final int BUCKETS = 64;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public double getMeanNanos() {
+            long operations = getCount();
+            return operations == 0 ? 0 : (double) getTotalNanos() / operations;
+        }
+
+        //upper bound of the bucket holding the given fraction of recorded durations, e.g. 0.99 for p99
+        public long getPercentileNanos(double fraction) {
+            long operations = getCount();
+            if (operations == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(Math.min(1, Math.max(0, fraction)) * operations);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= Math.max(1, target)) {
+                    return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return getMaxNanos();
+        }
+
+        public long getBucketCount(int bucket) {
+            return buckets.get(bucket);
+        }
+
+        void record(long nanos) {
+            long duration = Math.max(0, nanos);
+            buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(duration));
+            count.increment();
+            totalNanos.add(duration);
+            maxNanos.accumulate(duration);
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+    }
+}
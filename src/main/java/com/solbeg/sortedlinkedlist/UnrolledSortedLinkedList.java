@@ -0,0 +1,411 @@
+package com.solbeg.sortedlinkedlist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+//sorted list whose nodes hold small sorted arrays of items, so scans read mostly contiguous memory
+public class UnrolledSortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
+
+    private static final String INDEX_OUT_OF_BOUND_EXCEPTION = "Index value %d current list size %d";
+    private static final String CHUNK_CAPACITY_EXCEPTION = "Chunk capacity %d must be at least %d";
+    private static final int DEFAULT_CHUNK_CAPACITY = 64;
+    private static final int MIN_CHUNK_CAPACITY = 4;
+
+    private final Comparator<T> comparator;
+    private final int chunkCapacity;
+
+    private int size = 0;
+    private Chunk<T> head;
+    private Chunk<T> tail;
+    private int locatedOffset;
+
+    public UnrolledSortedLinkedList() {
+        this(AddNullsStrategy.TRAILING_NULLS, false);
+    }
+
+    public UnrolledSortedLinkedList(boolean reversed) {
+        this(AddNullsStrategy.TRAILING_NULLS, reversed);
+    }
+
+    public UnrolledSortedLinkedList(AddNullsStrategy addNullsStrategy, boolean reversed) {
+        this(addNullsStrategy, reversed, DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public UnrolledSortedLinkedList(AddNullsStrategy addNullsStrategy, boolean reversed, int chunkCapacity) {
+        if (chunkCapacity < MIN_CHUNK_CAPACITY) {
+            String message = String.format(CHUNK_CAPACITY_EXCEPTION, chunkCapacity, MIN_CHUNK_CAPACITY);
+            throw new IllegalArgumentException(message);
+        }
+        this.comparator = SortedLinkedList.createComparator(addNullsStrategy, reversed);
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    public UnrolledSortedLinkedList(Collection<? extends T> collection) {
+        this();
+        addAll(collection);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T get(int index) {
+        Chunk<T> chunk = locate(index);
+        return chunk.get(locatedOffset);
+    }
+
+    public boolean add(T item) {
+        if (isEmpty()) {
+            head = tail = new Chunk<>(chunkCapacity);
+            head.insert(0, item);
+            size++;
+            return true;
+        }
+        Chunk<T> chunk = findChunk(item);
+        int position = chunk.lowerBound(item, comparator);
+        if (chunk.size == chunkCapacity) {
+            Chunk<T> right = split(chunk);
+            if (position > chunk.size) {
+                position -= chunk.size;
+                chunk = right;
+            }
+        }
+        chunk.insert(position, item);
+        size++;
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends T> collection) {
+        if (isNull(collection) || collection.isEmpty()) {
+            return false;
+        }
+        List<T> items = new ArrayList<>(collection);
+        items.sort(comparator);
+        if (items.size() < chunkCount()) {
+            items.forEach(this::add);
+            return true;
+        }
+        rebuild(items);
+        return true;
+    }
+
+    public T remove(int index) {
+        Chunk<T> chunk = locate(index);
+        return removeAt(chunk, locatedOffset);
+    }
+
+    public T remove(T item) {
+        if (isEmpty()) {
+            return null;
+        }
+        Chunk<T> chunk = findChunk(item);
+        int position = chunk.lowerBound(item, comparator);
+        if (position == chunk.size || comparator.compare(item, chunk.get(position)) != 0) {
+            return null;
+        }
+        return removeAt(chunk, position);
+    }
+
+    public int indexOf(T item) {
+        int position = 0;
+        for (Chunk<T> chunk = head; nonNull(chunk); chunk = chunk.next) {
+            if (comparator.compare(item, chunk.last()) <= 0) {
+                int offset = chunk.lowerBound(item, comparator);
+                return comparator.compare(item, chunk.get(offset)) == 0 ? position + offset : -1;
+            }
+            position += chunk.size;
+        }
+        return -1;
+    }
+
+    public void clear() {
+        Chunk<T> chunk = head;
+        while (nonNull(chunk)) {
+            Chunk<T> next = chunk.next;
+            chunk.next = chunk.prev = null;
+            chunk = next;
+        }
+        head = tail = null;
+        size = 0;
+    }
+
+    public List<T> toList() {
+        if (isEmpty()) {
+            return Collections.emptyList();
+        }
+        ArrayList<T> result = new ArrayList<>(size);
+        forEach(result::add);
+        return result;
+    }
+
+    public Iterator<T> iterator() {
+        return new UnrolledListIterator();
+    }
+
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof UnrolledSortedLinkedList))
+            return false;
+
+        Iterator<T> thisIterator = iterator();
+        Iterator<?> comparingIterator = ((UnrolledSortedLinkedList<?>) o).iterator();
+        while (thisIterator.hasNext() && comparingIterator.hasNext()) {
+            T o1 = thisIterator.next();
+            Object o2 = comparingIterator.next();
+            if (!(isNull(o1) ? isNull(o2) : o1.equals(o2)))
+                return false;
+        }
+        return !(thisIterator.hasNext() || comparingIterator.hasNext());
+    }
+
+    public int hashCode() {
+        int hashCode = 1;
+        for (T e : this)
+            hashCode = 31 * hashCode + (e == null ? 0 : e.hashCode());
+        return hashCode;
+    }
+
+    //returns the chunk holding the index and records the offset inside it
+    private Chunk<T> locate(int index) {
+        checkIndex(index);
+        Chunk<T> chunk;
+        int offset;
+        if (index <= size / 2) {
+            chunk = head;
+            offset = index;
+            while (offset >= chunk.size) {
+                offset -= chunk.size;
+                chunk = chunk.next;
+            }
+        } else {
+            chunk = tail;
+            offset = size - 1 - index;
+            while (offset >= chunk.size) {
+                offset -= chunk.size;
+                chunk = chunk.prev;
+            }
+            offset = chunk.size - 1 - offset;
+        }
+        locatedOffset = offset;
+        return chunk;
+    }
+
+    //first chunk whose greatest item is not less than item, or the tail chunk
+    private Chunk<T> findChunk(T item) {
+        if (comparator.compare(item, tail.last()) > 0) {
+            return tail;
+        }
+        Chunk<T> chunk = head;
+        while (chunk != tail && comparator.compare(item, chunk.last()) > 0) {
+            chunk = chunk.next;
+        }
+        return chunk;
+    }
+
+    private T removeAt(Chunk<T> chunk, int position) {
+        T item = chunk.remove(position);
+        size--;
+        if (chunk.size == 0) {
+            unlink(chunk);
+        } else {
+            mergeIfSparse(chunk, chunk.next);
+            mergeIfSparse(chunk.prev, chunk);
+        }
+        return item;
+    }
+
+    private Chunk<T> split(Chunk<T> chunk) {
+        Chunk<T> right = new Chunk<>(chunkCapacity);
+        int half = chunk.size / 2;
+        System.arraycopy(chunk.items, half, right.items, 0, chunk.size - half);
+        right.size = chunk.size - half;
+        chunk.clear(half, chunk.size);
+        chunk.size = half;
+        linkAfter(chunk, right);
+        return right;
+    }
+
+    //two neighbouring chunks are joined once together they fill no more than half a chunk
+    private void mergeIfSparse(Chunk<T> left, Chunk<T> right) {
+        if (isNull(left) || isNull(right) || left.size + right.size > chunkCapacity / 2) {
+            return;
+        }
+        System.arraycopy(right.items, 0, left.items, left.size, right.size);
+        left.size += right.size;
+        unlink(right);
+    }
+
+    private void linkAfter(Chunk<T> chunk, Chunk<T> newChunk) {
+        Chunk<T> next = chunk.next;
+        newChunk.prev = chunk;
+        newChunk.next = next;
+        chunk.next = newChunk;
+        if (nonNull(next)) {
+            next.prev = newChunk;
+        } else {
+            tail = newChunk;
+        }
+    }
+
+    private void unlink(Chunk<T> chunk) {
+        Chunk<T> prev = chunk.prev;
+        Chunk<T> next = chunk.next;
+        if (nonNull(prev)) {
+            prev.next = next;
+        } else {
+            head = next;
+        }
+        if (nonNull(next)) {
+            next.prev = prev;
+        } else {
+            tail = prev;
+        }
+        chunk.next = chunk.prev = null;
+    }
+
+    //merges the list with already sorted items into fresh chunks filled to three quarters
+    private void rebuild(List<T> sortedItems) {
+        Iterator<T> existing = iterator();
+        Iterator<T> added = sortedItems.iterator();
+        T nextExisting = existing.hasNext() ? existing.next() : null;
+        boolean hasExisting = !isEmpty();
+        T nextAdded = added.next();
+        boolean hasAdded = true;
+
+        int fill = Math.max(1, chunkCapacity * 3 / 4);
+        int newSize = size + sortedItems.size();
+        Chunk<T> newHead = new Chunk<>(chunkCapacity);
+        Chunk<T> current = newHead;
+        while (hasExisting || hasAdded) {
+            T item;
+            if (hasAdded && (!hasExisting || comparator.compare(nextAdded, nextExisting) <= 0)) {
+                item = nextAdded;
+                hasAdded = added.hasNext();
+                nextAdded = hasAdded ? added.next() : null;
+            } else {
+                item = nextExisting;
+                hasExisting = existing.hasNext();
+                nextExisting = hasExisting ? existing.next() : null;
+            }
+            if (current.size == fill) {
+                Chunk<T> chunk = new Chunk<>(chunkCapacity);
+                chunk.prev = current;
+                current.next = chunk;
+                current = chunk;
+            }
+            current.items[current.size++] = item;
+        }
+        head = newHead;
+        tail = current;
+        size = newSize;
+    }
+
+    private int chunkCount() {
+        return size / chunkCapacity + 1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            String message = String.format(INDEX_OUT_OF_BOUND_EXCEPTION, index, size);
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+
+    private static final class Chunk<T> {
+        private final Object[] items;
+        private int size;
+        private Chunk<T> next;
+        private Chunk<T> prev;
+
+        Chunk(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int position) {
+            return (T) items[position];
+        }
+
+        T last() {
+            return get(size - 1);
+        }
+
+        //first position whose item is not less than the given one
+        int lowerBound(T item, Comparator<T> comparator) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparator.compare(item, get(mid)) > 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        void insert(int position, T item) {
+            System.arraycopy(items, position, items, position + 1, size - position);
+            items[position] = item;
+            size++;
+        }
+
+        T remove(int position) {
+            T item = get(position);
+            System.arraycopy(items, position + 1, items, position, size - position - 1);
+            items[--size] = null;
+            return item;
+        }
+
+        void clear(int from, int to) {
+            for (int i = from; i < to; i++) {
+                items[i] = null;
+            }
+        }
+    }
+
+    private class UnrolledListIterator implements Iterator<T> {
+        private Chunk<T> chunk = head;
+        private int position;
+        private int nextIndex;
+
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            if (position == chunk.size) {
+                chunk = chunk.next;
+                position = 0;
+            }
+            nextIndex++;
+            return chunk.get(position++);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentSortedLinkedListTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+    static final Comparator<Integer> REVERSED_NULLS_FIRST_COMPARATOR = Comparator.nullsLast(Integer::compareTo).reversed();
+    static final int THREADS = 8;
+    //GIVEN
+    Integer[] intsWithNulls;
+
+    ConcurrentSortedLinkedList<Integer> sut;
+
+    @BeforeEach
+    void init() {
+        sut = new ConcurrentSortedLinkedList<>();
+        intsWithNulls = new Integer[] {100, null, 4, 25, 17, null, 150, 11, 25, 4};
+    }
+
+    @Test
+    void shouldAddInAscendingOrder_TrailingNullsStrategy() {
+        //GIVEN
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //THEN
+        assertEquals(intsWithNulls.length, sut.size());
+        Arrays.sort(intsWithNulls, NULLS_LAST_COMPARATOR);
+        assertEquals(Arrays.asList(intsWithNulls), sut.toList());
+        assertEquals(Arrays.asList(intsWithNulls), sut.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldAddInDescendingOrder_LeadingNullsStrategy() {
+        //GIVEN
+        sut = new ConcurrentSortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, true);
+
+        //WHEN
+        sut.addAll(Arrays.asList(intsWithNulls));
+
+        //THEN
+        Arrays.sort(intsWithNulls, REVERSED_NULLS_FIRST_COMPARATOR);
+        assertEquals(Arrays.asList(intsWithNulls), sut.toList());
+    }
+
+    @Test
+    void shouldRemoveOneOfDuplicates() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //WHEN
+        Integer removed = sut.remove(Integer.valueOf(25));
+
+        //THEN
+        assertEquals(25, removed);
+        assertTrue(sut.contains(25));
+        assertEquals(25, sut.remove(Integer.valueOf(25)));
+        assertFalse(sut.contains(25));
+        assertNull(sut.remove(Integer.valueOf(25)));
+        assertTrue(sut.contains(null));
+        assertEquals(intsWithNulls.length - 2, sut.size());
+    }
+
+    @Test
+    void shouldClearList() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //WHEN
+        sut.clear();
+
+        //THEN
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void shouldKeepAllItemsAddedAndRemovedConcurrently() throws Exception {
+        //GIVEN
+        int itemsPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //WHEN
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < itemsPerThread; i++) {
+                    sut.add(i % 1000);
+                    if (i % 2 == offset % 2) {
+                        sut.remove(Integer.valueOf(i % 1000));
+                        sut.add(i % 1000);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        //THEN
+        List<Integer> result = sut.toList();
+        assertEquals(THREADS * itemsPerThread, result.size());
+        assertEquals(THREADS * itemsPerThread, sut.size());
+        List<Integer> sorted = new ArrayList<>(result);
+        sorted.sort(NULLS_LAST_COMPARATOR);
+        assertEquals(sorted, result);
+        assertEquals(THREADS * itemsPerThread / 1000, result.stream().filter(i -> i == 7).count());
+    }
+}
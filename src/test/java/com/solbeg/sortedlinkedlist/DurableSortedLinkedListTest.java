@@ -0,0 +1,217 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurableSortedLinkedListTest {
+
+    static final Comparator<Integer> REVERSED_NULLS_FIRST_COMPARATOR = Comparator.nullsLast(Integer::compareTo).reversed();
+
+    @TempDir
+    Path directory;
+
+    Path snapshotFile;
+    Path logFile;
+
+    @BeforeEach
+    void init() {
+        snapshotFile = directory.resolve("list.sll");
+        logFile = directory.resolve("list.wal");
+    }
+
+    @Test
+    void shouldRecoverChangesFromLog() throws IOException {
+        //GIVEN
+        List<Integer> expected = new ArrayList<>();
+        try (DurableSortedLinkedList<Integer> sut = open(FsyncPolicy.ALWAYS)) {
+            //WHEN
+            Random random = new Random(9);
+            for (int i = 0; i < 5000; i++) {
+                Integer item = random.nextInt(20) == 0 ? null : random.nextInt(1000);
+                sut.add(item);
+                expected.add(item);
+                if (i % 5 == 0) {
+                    expected.remove(sut.remove(random.nextInt(sut.size())));
+                }
+            }
+            expected.remove(sut.remove(Integer.valueOf(500)));
+            sut.sync();
+
+            //THEN
+            assertTrue(sut.getLog().getRecordsWritten() > 5000);
+            assertTrue(sut.getLog().getBatchesWritten() > 0);
+            assertTrue(sut.getLog().getFsyncLatency().getCount() > 0);
+        }
+        expected.sort(REVERSED_NULLS_FIRST_COMPARATOR);
+        try (DurableSortedLinkedList<Integer> recovered = open(FsyncPolicy.NEVER)) {
+            assertEquals(expected, recovered.toList());
+        }
+    }
+
+    @Test
+    void shouldReplayLogOnTopOfCheckpoint() throws IOException {
+        //GIVEN
+        try (DurableSortedLinkedList<Integer> sut = open(FsyncPolicy.PERIODIC)) {
+            sut.addAll(Arrays.asList(5, 1, null, 3));
+
+            //WHEN
+            sut.checkpoint();
+            long logSizeAfterCheckpoint = Files.size(logFile);
+            sut.add(4);
+            sut.remove(Integer.valueOf(1));
+            sut.clear();
+            sut.add(7);
+            sut.add(2);
+
+            //THEN
+            assertTrue(logSizeAfterCheckpoint < 16);
+        }
+        try (DurableSortedLinkedList<Integer> recovered = open(FsyncPolicy.PERIODIC)) {
+            assertEquals(List.of(7, 2), recovered.toList());
+        }
+    }
+
+    @Test
+    void shouldIgnoreLogOlderThanSnapshot() throws IOException {
+        //GIVEN
+        Path oldLog = directory.resolve("old.wal");
+        try (DurableSortedLinkedList<Integer> sut = open(FsyncPolicy.ALWAYS)) {
+            sut.addAll(List.of(1, 2, 3));
+            sut.sync();
+            Files.copy(logFile, oldLog);
+
+            //WHEN
+            sut.checkpoint();
+        }
+        //as if the process died after the snapshot was replaced but before the log was emptied
+        Files.copy(oldLog, logFile, StandardCopyOption.REPLACE_EXISTING);
+
+        //THEN
+        try (DurableSortedLinkedList<Integer> recovered = open(FsyncPolicy.ALWAYS)) {
+            assertEquals(List.of(3, 2, 1), recovered.toList());
+        }
+    }
+
+    @Test
+    void shouldStopReplayAtTornRecord() throws IOException {
+        //GIVEN
+        try (DurableSortedLinkedList<Integer> sut = open(FsyncPolicy.ALWAYS)) {
+            sut.add(1);
+            sut.add(2);
+            sut.add(3);
+        }
+        byte[] bytes = Files.readAllBytes(logFile);
+        Files.write(logFile, Arrays.copyOf(bytes, bytes.length - 2));
+
+        //WHEN
+        try (DurableSortedLinkedList<Integer> recovered = open(FsyncPolicy.ALWAYS)) {
+            recovered.add(4);
+        }
+
+        //THEN
+        try (DurableSortedLinkedList<Integer> recovered = open(FsyncPolicy.ALWAYS)) {
+            assertEquals(List.of(4, 2, 1), recovered.toList());
+        }
+    }
+
+    @Test
+    void shouldRejectChangesAfterClose() throws IOException {
+        //GIVEN
+        DurableSortedLinkedList<Integer> sut = open(FsyncPolicy.NEVER);
+
+        //WHEN
+        sut.close();
+
+        //THEN
+        assertThrows(IllegalStateException.class, () -> sut.add(1));
+    }
+
+    @Test
+    void shouldLeaveListUnchangedAfterLogFailure() throws IOException {
+        //GIVEN
+        ElementCodec<Integer> integers = ElementCodec.integers();
+        ElementCodec<Integer> failingOn13 = new ElementCodec<>() {
+            public int encodedLength(Integer item) {
+                return integers.encodedLength(item);
+            }
+
+            public void encode(Integer item, ByteBuffer buffer) {
+                if (item == 13) {
+                    throw new IllegalStateException("unwritable item");
+                }
+                integers.encode(item, buffer);
+            }
+
+            public Integer decode(ByteBuffer buffer) {
+                return integers.decode(buffer);
+            }
+        };
+        DurableSortedLinkedList<Integer> sut = DurableSortedLinkedList.open(snapshotFile, logFile, failingOn13,
+                SortedLinkedList::new, FsyncPolicy.ALWAYS);
+        sut.add(1);
+        sut.add(13);
+        assertThrows(UncheckedIOException.class, sut::sync);
+
+        //WHEN
+        //THEN
+        assertThrows(UncheckedIOException.class, () -> sut.add(2));
+        assertThrows(UncheckedIOException.class, () -> sut.addAll(List.of(3, 4)));
+        assertThrows(UncheckedIOException.class, () -> sut.remove(0));
+        assertThrows(UncheckedIOException.class, () -> sut.remove(Integer.valueOf(1)));
+        assertThrows(UncheckedIOException.class, sut::clear);
+        assertEquals(List.of(1, 13), sut.toList());
+        assertThrows(IOException.class, sut::close);
+    }
+
+    @Test
+    void shouldForceLoneWriteWithinInterval() throws Exception {
+        //GIVEN
+        Duration interval = Duration.ofMillis(200);
+        try (DurableSortedLinkedList<Integer> sut = DurableSortedLinkedList.open(snapshotFile, logFile,
+                ElementCodec.integers(), SortedLinkedList::new, FsyncPolicy.PERIODIC, interval)) {
+            Thread.sleep(interval.toMillis());
+            sut.add(1);
+            awaitFsyncs(sut, 1, Duration.ofSeconds(5));
+
+            //WHEN
+            //right after an fsync, so the batch itself is not forced
+            sut.add(2);
+
+            //THEN
+            awaitFsyncs(sut, 2, interval.plusSeconds(5));
+            assertEquals(2, sut.getLog().getRecordsWritten());
+        }
+    }
+
+    private static void awaitFsyncs(DurableSortedLinkedList<Integer> sut, long fsyncs, Duration timeout)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (sut.getLog().getFsyncLatency().getCount() < fsyncs && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(fsyncs, sut.getLog().getFsyncLatency().getCount());
+    }
+
+    private DurableSortedLinkedList<Integer> open(FsyncPolicy fsyncPolicy) throws IOException {
+        return DurableSortedLinkedList.open(snapshotFile, logFile, ElementCodec.integers(),
+                () -> new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, true), fsyncPolicy);
+    }
+}
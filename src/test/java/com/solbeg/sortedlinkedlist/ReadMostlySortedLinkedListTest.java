@@ -0,0 +1,206 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadMostlySortedLinkedListTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+    //GIVEN
+    Integer[] intsWithNulls;
+
+    ReadMostlySortedLinkedList<Integer> sut;
+
+    @BeforeEach
+    void init() {
+        SortedLinkedList<Integer> list = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, true);
+        sut = new ReadMostlySortedLinkedList<>(list);
+        intsWithNulls = new Integer[] {100, null, 4, 25, 17, null, 150, 11};
+    }
+
+    @Test
+    void shouldDelegateReadsAndWrites() {
+        //GIVEN
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+        Integer removed = sut.remove(Integer.valueOf(17));
+
+        //THEN
+        Arrays.sort(intsWithNulls, NULLS_LAST_COMPARATOR);
+        List<Integer> expected = new ArrayList<>(Arrays.asList(intsWithNulls));
+        expected.remove(Integer.valueOf(17));
+        assertEquals(17, removed);
+        assertEquals(expected, sut.toList());
+        assertEquals(expected.size(), sut.size());
+        assertEquals(expected.get(3), sut.get(3));
+        assertEquals(expected.indexOf(100), sut.indexOf(100));
+        assertNull(sut.remove(Integer.valueOf(1024)));
+    }
+
+    @Test
+    void shouldRiseIndexOutOfBoundException() {
+        //GIVEN
+        //WHEN
+        //THEN
+        assertTrue(sut.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> sut.get(0));
+    }
+
+    @Test
+    void shouldServeReadersWhileWriting() throws Exception {
+        //GIVEN
+        int writes = 20_000;
+        for (int i = 0; i < 100; i++) {
+            sut.add(i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //WHEN
+        futures.add(executor.submit(() -> {
+            for (int i = 0; i < writes; i++) {
+                sut.add(i % 500);
+                sut.remove(Integer.valueOf(i % 500));
+            }
+        }));
+        for (int t = 0; t < 3; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < writes; i++) {
+                    int size = sut.size();
+                    assertTrue(size >= 100 && size <= 101);
+                    Integer first = sut.get(0);
+                    assertTrue(first == 0 || first == 1);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        //THEN
+        assertEquals(100, sut.size());
+    }
+
+    @Test
+    void shouldFindIndexesOfIndexedListFromSeveralThreads() throws Exception {
+        //GIVEN
+        int items = 10_000;
+        for (int i = 0; i < items; i++) {
+            sut.add(i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //WHEN
+        //THEN
+        for (int t = 0; t < 8; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 20_000; i++) {
+                    int item = random.nextInt(items);
+                    assertEquals(item, sut.indexOf(item));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldRepeatReadInvalidatedByWrite() throws Exception {
+        //GIVEN
+        AtomicReference<Runnable> onCompare = new AtomicReference<>();
+        Comparator<Integer> comparator = (a, b) -> {
+            Runnable hook = onCompare.getAndSet(null);
+            if (hook != null) {
+                hook.run();
+            }
+            return a.compareTo(b);
+        };
+        sut = new ReadMostlySortedLinkedList<>(new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, comparator));
+        for (int i = 0; i < 100; i++) {
+            sut.add(i);
+        }
+        //a write lands in the middle of the optimistic read
+        onCompare.set(() -> {
+            Thread writer = new Thread(() -> sut.add(-1));
+            writer.start();
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        //WHEN
+        int position = sut.indexOf(50);
+
+        //THEN
+        assertEquals(51, position);
+        assertEquals(1, sut.getOptimisticReadRetries());
+    }
+
+    @Test
+    void shouldReadBufferingListFromSeveralThreads() throws Exception {
+        //GIVEN
+        SortedLinkedList<Integer> list = new SortedLinkedList<>();
+        list.setStagingBufferSize(10_000);
+        sut = new ReadMostlySortedLinkedList<>(list);
+        int readers = 8;
+        Random random = new Random(7);
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+
+        //WHEN
+        //THEN
+        for (int round = 1; round <= 20; round++) {
+            //staged by the wrapper, merged by whichever reader comes first
+            for (int i = 0; i < 5_000; i++) {
+                sut.add(random.nextInt(100_000));
+            }
+            int expectedSize = round * 5_000;
+            CyclicBarrier start = new CyclicBarrier(readers);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < readers; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Integer> items = sut.toList();
+                    assertEquals(expectedSize, items.size());
+                    for (int j = 1; j < items.size(); j++) {
+                        assertTrue(items.get(j - 1) <= items.get(j));
+                    }
+                    assertEquals(items.get(0), sut.get(0));
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,67 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedDoubleListTest {
+
+    //GIVEN
+    double[] latencies;
+
+    SortedDoubleList sut;
+
+    @BeforeEach
+    void init() {
+        sut = new SortedDoubleList(MissingValuePolicy.TRAILING_MISSING, Double.NaN, false);
+        latencies = new double[] {1.5, Double.NaN, 0.25, 12.0, 3.75, Double.NaN, -0.0, 0.0};
+    }
+
+    @Test
+    void shouldTreatNaNAsMissingValue() {
+        //GIVEN
+        //WHEN
+        DoubleStream.of(latencies).forEach(sut::add);
+
+        //THEN
+        assertEquals(latencies.length, sut.size());
+        assertEquals(2, sut.missingCount());
+        assertArrayEquals(new double[] {-0.0, 0.0, 0.25, 1.5, 3.75, 12.0, Double.NaN, Double.NaN}, sut.toArray());
+        assertTrue(sut.contains(Double.NaN));
+        assertTrue(sut.removeValue(Double.NaN));
+        assertEquals(1, sut.missingCount());
+    }
+
+    @Test
+    void shouldAddInDescendingOrder() {
+        //GIVEN
+        sut = new SortedDoubleList(MissingValuePolicy.LEADING_MISSING, Double.NaN, true);
+
+        //WHEN
+        sut.addAll(latencies);
+
+        //THEN
+        assertArrayEquals(new double[] {Double.NaN, Double.NaN, 12.0, 3.75, 1.5, 0.25, 0.0, -0.0}, sut.toArray());
+        assertArrayEquals(sut.toArray(), sut.stream().toArray());
+        assertEquals(12.0, sut.get(2));
+    }
+
+    @Test
+    void shouldFindValuesByBinarySearch() {
+        //GIVEN
+        //WHEN
+        DoubleStream.of(latencies).forEach(sut::add);
+
+        //THEN
+        assertEquals(2, sut.indexOf(0.25));
+        assertEquals(-1, sut.indexOf(2.0));
+        assertFalse(sut.removeValue(2.0));
+        assertEquals(0.0, sut.removeAt(1));
+    }
+}
@@ -0,0 +1,54 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedIntListTest {
+
+    //GIVEN
+    int[] ints;
+
+    SortedIntList sut;
+
+    @BeforeEach
+    void init() {
+        sut = new SortedIntList();
+        ints = new int[] {100, 4, 25, 17, 150, 11, 25};
+    }
+
+    @Test
+    void shouldAddInAscendingOrder() {
+        //GIVEN
+        //WHEN
+        IntStream.of(ints).forEach(sut::add);
+
+        //THEN
+        Arrays.sort(ints);
+        assertArrayEquals(ints, sut.toArray());
+        assertArrayEquals(ints, sut.stream().toArray());
+        assertEquals(3, sut.indexOf(25));
+    }
+
+    @Test
+    void shouldKeepMissingValuesAtTheHeadOfReversedList() {
+        //GIVEN
+        sut = new SortedIntList(MissingValuePolicy.LEADING_MISSING, -1, true);
+
+        //WHEN
+        IntStream.of(ints).forEach(sut::add);
+        sut.add(-1);
+
+        //THEN
+        assertArrayEquals(new int[] {-1, 150, 100, 25, 25, 17, 11, 4}, sut.toArray());
+        assertEquals(-1, sut.removeAt(0));
+        assertTrue(sut.removeValue(25));
+        assertArrayEquals(new int[] {150, 100, 25, 17, 11, 4}, sut.stream().toArray());
+    }
+}
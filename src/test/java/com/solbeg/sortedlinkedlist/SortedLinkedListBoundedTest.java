@@ -0,0 +1,81 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListBoundedTest {
+
+    static final Comparator<Integer> REVERSED_COMPARATOR = Comparator.<Integer>naturalOrder().reversed();
+
+    @Test
+    void shouldKeepTopItemsAndReportTheRest() {
+        for (boolean indexed : new boolean[] {false, true}) {
+            //GIVEN
+            Random random = new Random(3);
+            List<Integer> evicted = new ArrayList<>();
+            SortedLinkedList<Integer> sut =
+                    new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, true, indexed, 100, evicted::add);
+            List<Integer> all = new ArrayList<>();
+
+            //WHEN
+            for (int i = 0; i < 5000; i++) {
+                Integer item = random.nextInt(100_000);
+                all.add(item);
+                sut.add(item);
+            }
+            List<Integer> batch = random.ints(3000, 0, 200_000).boxed().collect(Collectors.toList());
+            all.addAll(batch);
+            sut.addAll(batch);
+
+            //THEN
+            all.sort(REVERSED_COMPARATOR);
+            assertEquals(100, sut.size());
+            assertEquals(all.subList(0, 100), sut.toList());
+            assertEquals(all.get(50), sut.get(50));
+            evicted.sort(REVERSED_COMPARATOR);
+            assertEquals(all.subList(100, all.size()), evicted);
+        }
+    }
+
+    @Test
+    void shouldRejectItemNotBetterThanTail() {
+        //GIVEN
+        List<Integer> evicted = new ArrayList<>();
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, 3, evicted::add);
+        sut.addAll(List.of(5, 1, 3));
+
+        //WHEN
+        boolean addedEqual = sut.add(5);
+        boolean addedWorse = sut.add(7);
+        boolean addedNull = sut.add(null);
+        boolean addedBetter = sut.add(2);
+
+        //THEN
+        assertFalse(addedEqual);
+        assertFalse(addedWorse);
+        assertFalse(addedNull);
+        assertTrue(addedBetter);
+        assertEquals(List.of(1, 2, 3), sut.toList());
+        assertEquals(List.of(5, 7), evicted.subList(0, 2));
+        assertEquals(5, evicted.get(3));
+    }
+
+    @Test
+    void shouldRejectNonPositiveCapacity() {
+        //GIVEN
+        //WHEN
+        //THEN
+        assertThrows(IllegalArgumentException.class,
+                () -> new SortedLinkedList<Integer>(AddNullsStrategy.TRAILING_NULLS, false, 0));
+    }
+}
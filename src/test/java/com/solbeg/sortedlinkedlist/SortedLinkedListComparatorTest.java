@@ -0,0 +1,195 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListComparatorTest {
+
+    static final Comparator<String> BY_LENGTH = Comparator.comparingInt(String::length)
+            .thenComparing(Comparator.naturalOrder());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldOrderByGivenComparator() {
+        //GIVEN
+        SortedLinkedList<String> sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, BY_LENGTH);
+        List<String> items = Arrays.asList("pear", null, "fig", "banana", "kiwi", "apple");
+
+        //WHEN
+        sut.addAll(items.subList(0, 3));
+        items.subList(3, items.size()).forEach(sut::add);
+
+        //THEN
+        assertEquals(Arrays.asList(null, "fig", "kiwi", "pear", "apple", "banana"), sut.toList());
+        assertEquals(3, sut.indexOf("pear"));
+        assertEquals(List.of("kiwi", "pear"), sut.range("kiwi", true, "pear", true).toList());
+        assertEquals("apple", sut.remove(4));
+        assertNull(sut.remove("plum"));
+    }
+
+    @Test
+    void shouldMatchComparatorOrderWithSortKeys() {
+        for (boolean indexed : new boolean[] {false, true}) {
+            //GIVEN
+            Random random = new Random(5);
+            SortedListMetrics metrics = new SortedListMetrics();
+            SortedLinkedList<String> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS,
+                    Comparator.naturalOrder(), SortKeys.stringPrefix(), indexed);
+            sut.setMetrics(metrics);
+            List<String> expected = new ArrayList<>();
+
+            //WHEN
+            for (int i = 0; i < 2000; i++) {
+                //shared prefixes of up to four chars make the keys tie
+                String item = "ab".substring(0, random.nextInt(3)) + random.nextInt(500);
+                sut.add(item);
+                expected.add(item);
+            }
+            List<String> batch = IntStream.range(0, 300).mapToObj(i -> "x" + i).collect(Collectors.toList());
+            sut.addAll(batch);
+            expected.addAll(batch);
+            sut.add(null);
+            expected.add(null);
+
+            //THEN
+            expected.sort(Comparator.nullsLast(Comparator.naturalOrder()));
+            assertEquals(expected, sut.toList());
+            assertEquals(expected.indexOf("ab42"), sut.indexOf("ab42"));
+            assertEquals("ab42", sut.remove("ab42"));
+            expected.remove("ab42");
+            assertEquals(expected, sut.toList());
+            assertTrue(metrics.getComparisons() > 0);
+        }
+    }
+
+    @Test
+    void shouldCompareKeysOnlyWhenTheyDiffer() {
+        //GIVEN
+        SortedListMetrics metrics = new SortedListMetrics();
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS,
+                Comparator.reverseOrder(), SortKeys.reversed(SortKeys.integers()), false);
+        sut.setMetrics(metrics);
+
+        //WHEN
+        List.of(5, -3, 8, 0, 12, 8).forEach(sut::add);
+        sut.setNodePoolCapacity(2);
+        sut.remove(Integer.valueOf(0));
+        sut.add(7);
+
+        //THEN
+        assertEquals(List.of(12, 8, 8, 7, 5, -3), sut.toList());
+        //only the second 8 and the removed 0 tie with a cached key
+        assertEquals(2, metrics.getComparisons());
+    }
+
+    @Test
+    void shouldKeepComparatorThroughMergeAndFile() throws IOException {
+        //GIVEN
+        Path file = directory.resolve("by-length.sll");
+        SortedLinkedList<String> first = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, BY_LENGTH);
+        SortedLinkedList<String> second = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, BY_LENGTH);
+        first.addAll(List.of("ccc", "a"));
+        second.addAll(List.of("bb", "dddd"));
+
+        //WHEN
+        SortedLinkedList<String> merged = SortedLinkedList.mergeAllToList(List.of(first, second));
+        merged.writeTo(file, ElementCodec.strings());
+        SortedLinkedList<String> restored = SortedLinkedList.readFrom(file, ElementCodec.strings(),
+                new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, BY_LENGTH));
+        merged.add("ee");
+        restored.add("ee");
+
+        //THEN
+        assertEquals(List.of("a", "bb", "ee", "ccc", "dddd"), merged.toList());
+        assertEquals(merged.toList(), restored.toList());
+        assertThrows(IOException.class, () -> SortedLinkedList.readFrom(file, ElementCodec.strings(),
+                new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, BY_LENGTH)));
+        assertThrows(IOException.class, () -> SortedLinkedList.readFrom(file, ElementCodec.strings(),
+                new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false)));
+    }
+
+    @Test
+    void shouldRejectFileOfComparatorListWithoutTargetList() throws IOException {
+        //GIVEN
+        Path file = directory.resolve("reversed.sll");
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS,
+                Comparator.<Integer>reverseOrder());
+        sut.addAll(List.of(5, 3, 1));
+
+        //WHEN
+        sut.writeTo(file, ElementCodec.integers());
+
+        //THEN
+        assertThrows(IOException.class, () -> SortedLinkedList.readFrom(file, ElementCodec.integers()));
+        assertThrows(IOException.class, () -> SortedLinkedList.readFrom(file, ElementCodec.integers(), true));
+    }
+
+    @Test
+    void shouldKeepItemsThatAreNotComparable() throws IOException {
+        //GIVEN
+        Path file = directory.resolve("points.sll");
+        Comparator<Point> byXThenY = Comparator.comparingInt(Point::x).thenComparingInt(Point::y);
+        SortedLinkedList<Point> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, byXThenY,
+                point -> point.x(), true);
+        sut.addAll(List.of(new Point(3, 1), new Point(1, 2), new Point(1, 1)));
+
+        //WHEN
+        sut.writeTo(file, Point.CODEC);
+        SortedLinkedList<Point> restored = SortedLinkedList.readFrom(file, Point.CODEC,
+                new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, byXThenY));
+        restored.add(new Point(2, 0));
+
+        //THEN
+        assertEquals(List.of(new Point(1, 1), new Point(1, 2), new Point(3, 1)), sut.toList());
+        assertEquals(List.of(new Point(1, 1), new Point(1, 2), new Point(2, 0), new Point(3, 1)), restored.toList());
+        assertEquals(2, restored.indexOf(new Point(2, 0)));
+    }
+
+    @Test
+    void shouldOrderStringPrefixKeysLikeStrings() {
+        //GIVEN
+        List<String> items = Arrays.asList("", "a", "a\u0000", "ab", "abcd", "abcde", "abce", "b", "\uffff");
+
+        //WHEN
+        //THEN
+        for (int i = 1; i < items.size(); i++) {
+            long previous = SortKeys.stringPrefix().applyAsLong(items.get(i - 1));
+            long current = SortKeys.stringPrefix().applyAsLong(items.get(i));
+            assertTrue(previous <= current, items.get(i));
+        }
+    }
+
+    record Point(int x, int y) {
+        static final ElementCodec<Point> CODEC = new ElementCodec<>() {
+            public int encodedLength(Point item) {
+                return 2 * Integer.BYTES;
+            }
+
+            public void encode(Point item, ByteBuffer buffer) {
+                buffer.putInt(item.x()).putInt(item.y());
+            }
+
+            public Point decode(ByteBuffer buffer) {
+                return new Point(buffer.getInt(), buffer.getInt());
+            }
+        };
+    }
+}
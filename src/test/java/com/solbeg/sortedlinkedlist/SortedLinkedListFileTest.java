@@ -0,0 +1,155 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadWhatWasWritten() throws IOException {
+        //GIVEN
+        Path file = directory.resolve("ints.sll");
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, true, true);
+        sut.addAll(Arrays.asList(100, null, 4, 25, 17, null, 150, 11, 25, 4));
+
+        //WHEN
+        sut.writeTo(file, ElementCodec.integers());
+        SortedLinkedList<Integer> plain = SortedLinkedList.readFrom(file, ElementCodec.integers());
+        SortedLinkedList<Integer> indexed = SortedLinkedList.readFrom(file, ElementCodec.integers(), true);
+
+        //THEN
+        assertEquals(sut.toList(), plain.toList());
+        assertEquals(sut.toList(), indexed.toList());
+        assertTrue(indexed.isIndexed());
+        assertEquals(sut.get(7), indexed.get(7));
+        //the restored list keeps the ordering of the written one
+        plain.add(50);
+        plain.add(null);
+        sut.add(50);
+        sut.add(null);
+        assertEquals(sut.toList(), plain.toList());
+    }
+
+    @Test
+    void shouldRemapSmallWindowsForVariableLengthItems() throws IOException {
+        //GIVEN
+        Path file = directory.resolve("strings.sll");
+        Random random = new Random(11);
+        String[] suffixes = {"", "-\u00e9", "-\u4e2d", "-\ud83d\ude00"};
+        List<String> items = IntStream.range(0, 500)
+                .mapToObj(i -> "item-" + random.nextInt(1000) + suffixes[i % suffixes.length])
+                .collect(Collectors.toList());
+        SortedLinkedList<String> sut = new SortedLinkedList<>(items);
+
+        //WHEN
+        SortedListFile.write(sut, file, ElementCodec.strings(), 16);
+        SortedLinkedList<String> restored = SortedListFile.read(file, ElementCodec.strings(), false, 16);
+
+        //THEN
+        assertEquals(sut.toList(), restored.toList());
+        assertEquals(sut.size(), restored.size());
+    }
+
+    @Test
+    void shouldWriteEmptyList() throws IOException {
+        //GIVEN
+        Path file = directory.resolve("empty.sll");
+
+        //WHEN
+        new SortedLinkedList<Long>().writeTo(file, ElementCodec.longs());
+        SortedLinkedList<Long> restored = SortedLinkedList.readFrom(file, ElementCodec.longs());
+
+        //THEN
+        assertTrue(restored.isEmpty());
+    }
+
+    @Test
+    void shouldRejectForeignAndTruncatedFiles() throws IOException {
+        //GIVEN
+        Path foreign = directory.resolve("foreign.sll");
+        Files.write(foreign, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        Path truncated = directory.resolve("truncated.sll");
+        new SortedLinkedList<>(List.of(1, 2, 3)).writeTo(truncated, ElementCodec.integers());
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 2));
+
+        //WHEN
+        //THEN
+        assertThrows(IOException.class, () -> SortedLinkedList.readFrom(foreign, ElementCodec.integers()));
+        assertThrows(IOException.class, () -> SortedLinkedList.readFrom(truncated, ElementCodec.integers()));
+    }
+
+    @Test
+    void shouldRejectCodecWritingFewerBytesThanAnnounced() {
+        //GIVEN
+        ElementCodec<Integer> codec = new ElementCodec<>() {
+            public int encodedLength(Integer item) {
+                return 8;
+            }
+
+            public void encode(Integer item, ByteBuffer buffer) {
+                buffer.putInt(item);
+            }
+
+            public Integer decode(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(List.of(1));
+
+        //WHEN
+        //THEN
+        assertThrows(IllegalStateException.class, () -> sut.writeTo(directory.resolve("bad.sll"), codec));
+    }
+
+    @Test
+    void shouldKeepPreviousFileWhenWriteFails() throws IOException {
+        //GIVEN
+        Path file = directory.resolve("list.sll");
+        new SortedLinkedList<>(List.of(1, 2, 3)).writeTo(file, ElementCodec.integers());
+        ElementCodec<Integer> failingOn5 = new ElementCodec<>() {
+            public int encodedLength(Integer item) {
+                return Integer.BYTES;
+            }
+
+            public void encode(Integer item, ByteBuffer buffer) {
+                if (item == 5) {
+                    throw new IllegalStateException("unwritable item");
+                }
+                buffer.putInt(item);
+            }
+
+            public Integer decode(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(List.of(4, 5, 6));
+
+        //WHEN
+        assertThrows(IllegalStateException.class, () -> sut.writeTo(file, failingOn5));
+
+        //THEN
+        assertEquals(List.of(1, 2, 3), SortedLinkedList.readFrom(file, ElementCodec.integers()).toList());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+}
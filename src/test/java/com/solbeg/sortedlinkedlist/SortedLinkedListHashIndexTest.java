@@ -0,0 +1,122 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListHashIndexTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+
+    @Test
+    void shouldCountAndRemoveDuplicates() {
+        for (boolean indexed : new boolean[] {false, true}) {
+            //GIVEN
+            Random random = new Random(13);
+            SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, indexed);
+            sut.setHashIndexed(true);
+            List<Integer> expected = new ArrayList<>();
+
+            //WHEN
+            for (int i = 0; i < 3000; i++) {
+                Integer item = random.nextInt(10) == 0 ? null : random.nextInt(300);
+                sut.add(item);
+                expected.add(item);
+            }
+            for (int i = 0; i < 1000; i++) {
+                Integer item = random.nextInt(300);
+                assertEquals(expected.remove(item), sut.remove(item) != null);
+            }
+
+            //THEN
+            expected.sort(NULLS_LAST_COMPARATOR);
+            assertEquals(expected, sut.toList());
+            for (int item = -1; item <= 300; item++) {
+                assertEquals(Collections.frequency(expected, item), sut.count(item));
+                assertEquals(expected.contains(item), sut.contains(item));
+            }
+            assertEquals(Collections.frequency(expected, null), sut.count(null));
+            assertTrue(sut.contains(null));
+        }
+    }
+
+    @Test
+    void shouldFollowBulkOperations() {
+        //GIVEN
+        List<Integer> evicted = new ArrayList<>();
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, 8,
+                evicted::add);
+        sut.addAll(Arrays.asList(5, 3, 5, 1));
+        sut.setHashIndexed(true);
+
+        //WHEN
+        sut.addAll(Arrays.asList(5, 2, 3, 9, 7, 0));
+        SortedLinkedList.Snapshot<Integer> snapshot = sut.snapshot();
+        sut.removeRange(Integer.valueOf(1), Integer.valueOf(3));
+        sut.removeIf(item -> item == 7);
+
+        //THEN
+        assertEquals(List.of(0, 3, 3, 5, 5, 5), sut.toList());
+        assertEquals(List.of(7, 9), evicted);
+        assertEquals(3, sut.count(5));
+        assertEquals(2, sut.count(3));
+        assertFalse(sut.contains(1));
+        assertFalse(sut.contains(9));
+        assertEquals(5, sut.remove(Integer.valueOf(5)));
+        assertEquals(2, sut.count(5));
+        assertEquals(8, snapshot.size());
+        sut.clear();
+        assertFalse(sut.contains(0));
+        assertEquals(0, sut.count(5));
+    }
+
+    @Test
+    void shouldWorkWithoutHashIndex() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, true);
+
+        //WHEN
+        sut.addAll(Arrays.asList(4, null, 4, 7, null, 1));
+
+        //THEN
+        assertFalse(sut.isHashIndexed());
+        assertEquals(0, sut.getHashIndexMemoryBytes());
+        assertEquals(2, sut.count(4));
+        assertEquals(2, sut.count(null));
+        assertTrue(sut.contains(7));
+        assertFalse(sut.contains(5));
+        assertNull(sut.remove(Integer.valueOf(5)));
+    }
+
+    @Test
+    void shouldReportMemoryOfHashIndex() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>();
+        sut.setHashIndexed(true);
+        long emptyIndexBytes = sut.getHashIndexMemoryBytes();
+
+        //WHEN
+        for (int i = 0; i < 1000; i++) {
+            sut.add(i % 100);
+        }
+        long bytes = sut.getHashIndexMemoryBytes();
+        sut.setHashIndexed(false);
+
+        //THEN
+        assertTrue(emptyIndexBytes > 0);
+        //grows with the distinct items, not with the duplicates
+        assertTrue(bytes > 100 * 56 && bytes < 1000 * 56);
+        assertEquals(0, sut.getHashIndexMemoryBytes());
+        assertEquals(10, sut.count(42));
+    }
+}
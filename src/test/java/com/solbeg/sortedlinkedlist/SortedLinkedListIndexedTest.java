@@ -0,0 +1,202 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListIndexedTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+    static final Comparator<Integer> NULLS_FIRST_COMPARATOR = Comparator.nullsFirst(Integer::compareTo);
+    static final Comparator<Integer> REVERSED_NULLS_LAST_COMPARATOR = Comparator.nullsFirst(Integer::compareTo).reversed();
+    //GIVEN
+    Integer[] intsWithNulls;
+
+    SortedLinkedList<Integer> sut;
+
+    @BeforeEach
+    void init() {
+        sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, true);
+        intsWithNulls = new Integer[] {100, null, 4, 25, 17, null, 150, 11, 25, 4};
+    }
+
+    @Test
+    void shouldBeIndexed() {
+        //GIVEN
+        //WHEN
+        //THEN
+        assertTrue(sut.isIndexed());
+        assertFalse(new SortedLinkedList<Integer>().isIndexed());
+    }
+
+    @Test
+    void shouldAddInAscendingOrder_TrailingNullsStrategy() {
+        //GIVEN
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //THEN
+        assertEquals(intsWithNulls.length, sut.size());
+        Arrays.sort(intsWithNulls, NULLS_LAST_COMPARATOR);
+        assertEquals(Arrays.asList(intsWithNulls), sut.toList());
+    }
+
+    @Test
+    void shouldAddInAscendingOrder_LeadingNullsStrategy() {
+        //GIVEN
+        sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, false, true);
+
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //THEN
+        assertEquals(intsWithNulls.length, sut.size());
+        Arrays.sort(intsWithNulls, NULLS_FIRST_COMPARATOR);
+        assertEquals(Arrays.asList(intsWithNulls), sut.toList());
+    }
+
+    @Test
+    void shouldAddInDescendingOrder() {
+        //GIVEN
+        sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, true, true);
+
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //THEN
+        Arrays.sort(intsWithNulls, REVERSED_NULLS_LAST_COMPARATOR);
+        assertEquals(Arrays.asList(intsWithNulls), sut.toList());
+    }
+
+    @Test
+    void shouldRemoveAllElement_PresentsInCollection() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //WHEN
+        for (Integer item : intsWithNulls) {
+            assertEquals(item, sut.remove(item));
+        }
+
+        //THEN
+        assertTrue(sut.isEmpty());
+        assertNull(sut.remove(Integer.valueOf(4)));
+    }
+
+    @Test
+    void shouldNotRemoveValueWhenObjectIsNotPresent() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //WHEN
+        Integer removedValue = sut.remove(Integer.valueOf(1024));
+
+        //THEN
+        assertNull(removedValue);
+        assertEquals(intsWithNulls.length, sut.size());
+    }
+
+    @Test
+    void shouldReturnProperValue() {
+        //GIVEN
+        sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, false, true);
+
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //THEN
+        Arrays.sort(intsWithNulls, NULLS_FIRST_COMPARATOR);
+        for (int i = 0; i < intsWithNulls.length; i++) {
+            assertEquals(intsWithNulls[i], sut.get(i));
+        }
+    }
+
+    @Test
+    void shouldReturnIndexOfFirstEqualItem() {
+        //GIVEN
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //THEN
+        Arrays.sort(intsWithNulls, NULLS_LAST_COMPARATOR);
+        List<Integer> expected = Arrays.asList(intsWithNulls);
+        for (Integer item : intsWithNulls) {
+            assertEquals(expected.indexOf(item), sut.indexOf(item));
+        }
+        assertEquals(-1, sut.indexOf(1024));
+        assertEquals(-1, sut.indexOf(0));
+    }
+
+    @Test
+    void shouldKeepIndexAfterBulkMerge() {
+        //GIVEN
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            expected.add(random.nextInt(10) == 0 ? null : random.nextInt(1000));
+        }
+        sut.addAll(expected.subList(0, 2000));
+        SortedLinkedList<Integer> other = new SortedLinkedList<>(expected.subList(2000, 5000));
+        expected.sort(NULLS_LAST_COMPARATOR);
+
+        //WHEN
+        sut.addAll(other);
+        sut.add(-1);
+        sut.remove(Integer.valueOf(-1));
+
+        //THEN
+        assertEquals(expected, sut.toList());
+        for (int i = 0; i < expected.size(); i += 7) {
+            assertEquals(expected.get(i), sut.get(i));
+            assertEquals(expected.indexOf(expected.get(i)), sut.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    void shouldKeepOrderForRandomAddsAndRemoves() {
+        //GIVEN
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+
+        //WHEN
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(4);
+            Integer value = random.nextInt(10) == 0 ? null : random.nextInt(500);
+            if (operation == 0 && !expected.isEmpty()) {
+                int idx = random.nextInt(expected.size());
+                assertEquals(expected.remove(idx), sut.remove(idx));
+            } else if (operation == 1 && i % 100 == 0) {
+                List<Integer> batch = Arrays.asList(value, random.nextInt(500), random.nextInt(500));
+                expected.addAll(batch);
+                expected.sort(NULLS_LAST_COMPARATOR);
+                sut.addAll(batch);
+            } else if (operation == 1) {
+                assertEquals(expected.remove(value) ? value : null, sut.remove(value));
+            } else {
+                expected.add(value);
+                expected.sort(NULLS_LAST_COMPARATOR);
+                sut.add(value);
+            }
+            if (!expected.isEmpty()) {
+                int idx = random.nextInt(expected.size());
+                assertEquals(expected.get(idx), sut.get(idx));
+                assertEquals(expected.indexOf(value), sut.indexOf(value));
+            }
+        }
+
+        //THEN
+        assertEquals(expected.size(), sut.size());
+        assertEquals(expected, sut.toList());
+    }
+}
@@ -170,6 +170,24 @@ public class SortedLinkedListIntsReversedTest {
         assertEquals(joinedList, sut.toList());
     }
 
+    @Test
+    void shouldAddAnotherReversedLinkedList() {
+        //GIVEN
+        List<Integer> joinedList = new ArrayList<>(Arrays.asList(intsWithNulls));
+        joinedList.addAll(Arrays.asList(intsWithNulls));
+        joinedList.sort(NULLS_LAST_COMPARATOR);
+
+        sut.addAll(Arrays.asList(intsWithNulls));
+        SortedLinkedList<Integer> secondList = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS,
+                Arrays.asList(intsWithNulls), true);
+
+        //WHEN
+        sut.addAll(secondList);
+
+        //THEN
+        assertEquals(joinedList, sut.toList());
+    }
+
     @Test
     void shouldRemoveSecondElement() {
         //GIVEN
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -170,6 +171,59 @@ class SortedLinkedListIntsTest {
         assertEquals(joinedList, sut.toList());
     }
 
+    @Test
+    void shouldCopyAnotherLinkedList() {
+        //GIVEN
+        SortedLinkedList<Integer> source = new SortedLinkedList<>(Arrays.asList(intsWithNulls));
+
+        //WHEN
+        sut = new SortedLinkedList<>(source);
+
+        //THEN
+        assertEquals(intsWithNulls.length, sut.size());
+        assertEquals(source.toList(), sut.toList());
+    }
+
+    @Test
+    void shouldMergeCollectionWithDuplicates() {
+        //GIVEN
+        Random random = new Random(7);
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            first.add(random.nextInt(20) == 0 ? null : random.nextInt(100));
+            second.add(random.nextInt(20) == 0 ? null : random.nextInt(200) - 50);
+        }
+        List<Integer> joinedList = new ArrayList<>(first);
+        joinedList.addAll(second);
+        joinedList.addAll(second);
+        joinedList.sort(NULLS_LAST_COMPARATOR);
+
+        //WHEN
+        sut.addAll(first);
+        sut.addAll(second);
+        sut.addAll(new SortedLinkedList<>(second));
+
+        //THEN
+        assertEquals(joinedList.size(), sut.size());
+        assertEquals(joinedList, sut.toList());
+    }
+
+    @Test
+    void shouldAddItselfToList() {
+        //GIVEN
+        List<Integer> joinedList = new ArrayList<>(Arrays.asList(intsWithNulls));
+        joinedList.addAll(Arrays.asList(intsWithNulls));
+        joinedList.sort(NULLS_LAST_COMPARATOR);
+        sut.addAll(Arrays.asList(intsWithNulls));
+
+        //WHEN
+        sut.addAll(sut);
+
+        //THEN
+        assertEquals(joinedList, sut.toList());
+    }
+
     @Test
     void shouldRemoveSecondElement() {
         //GIVEN
@@ -243,6 +297,21 @@ class SortedLinkedListIntsTest {
         assertEquals(Arrays.asList(intsWithNulls), sut.toList());
     }
 
+    @Test
+    void shouldReturnIndexOfItem() {
+        //GIVEN
+        //WHEN
+        sut.addAll(Arrays.asList(intsWithNulls));
+
+        //THEN
+        Arrays.sort(intsWithNulls, NULLS_LAST_COMPARATOR);
+        List<Integer> expected = Arrays.asList(intsWithNulls);
+        for (Integer item : intsWithNulls) {
+            assertEquals(expected.indexOf(item), sut.indexOf(item));
+        }
+        assertEquals(-1, sut.indexOf(1024));
+    }
+
     @Test
     void shouldAddNullToTheTail() {
         //GIVEN
@@ -276,4 +345,47 @@ class SortedLinkedListIntsTest {
         assertNull(sut.get(1));
         assertEquals(1024, sut.get(2));
     }
+
+    @Test
+    void shouldKeepOrderForNearlySortedInputWithEveryHint() {
+        //GIVEN
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        List<Integer> removed = new ArrayList<>();
+
+        //WHEN
+        for (int i = 0; i < 2000; i++) {
+            Integer item = i % 10 == 0 ? random.nextInt(i + 1) : i - random.nextInt(5);
+            SortedLinkedList.Hint hint = SortedLinkedList.Hint.values()[i % 3];
+            sut.add(item, hint);
+            expected.add(item);
+            if (i % 7 == 0) {
+                removed.add(sut.remove(random.nextInt(sut.size())));
+            }
+        }
+
+        //THEN
+        removed.forEach(expected::remove);
+        expected.sort(NULLS_LAST_COMPARATOR);
+        assertEquals(expected, sut.toList());
+    }
+
+    @Test
+    void shouldAddAfterFingerWasRemoved() {
+        //GIVEN
+        Stream.of(ints).forEach(sut::add);
+
+        //WHEN
+        sut.add(50);
+        sut.remove(Integer.valueOf(50));
+        sut.remove(Integer.valueOf(100));
+        sut.add(60);
+        sut.add(null);
+        sut.remove(Integer.valueOf(150));
+        sut.add(55);
+
+        //THEN
+        assertEquals(List.of(4, 11, 17, 25, 55, 60), sut.toList().subList(0, 6));
+        assertNull(sut.get(6));
+    }
 }
@@ -0,0 +1,88 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListMergeAllTest {
+
+    static final Comparator<Integer> REVERSED_NULLS_FIRST_COMPARATOR = Comparator.nullsLast(Integer::compareTo).reversed();
+
+    @Test
+    void shouldMergeManyListsInOrder() {
+        //GIVEN
+        Random random = new Random(23);
+        List<SortedLinkedList<Integer>> lists = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            SortedLinkedList<Integer> list = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, true);
+            for (int j = random.nextInt(300); j > 0; j--) {
+                Integer item = random.nextInt(50) == 0 ? null : random.nextInt(10_000);
+                list.add(item);
+                expected.add(item);
+            }
+            lists.add(list);
+        }
+        expected.sort(REVERSED_NULLS_FIRST_COMPARATOR);
+
+        //WHEN
+        List<Integer> lazy = SortedLinkedList.mergeAll(lists).collect(Collectors.toList());
+        SortedLinkedList<Integer> eager = SortedLinkedList.mergeAllToList(lists);
+
+        //THEN
+        assertEquals(expected, lazy);
+        assertEquals(expected, eager.toList());
+        //the merged list keeps the order of its sources
+        eager.add(5000);
+        eager.add(null);
+        expected.add(5000);
+        expected.add(null);
+        expected.sort(REVERSED_NULLS_FIRST_COMPARATOR);
+        assertEquals(expected, eager.toList());
+    }
+
+    @Test
+    void shouldMergeLazily() {
+        //GIVEN
+        SortedLinkedList<Integer> odd = new SortedLinkedList<>(List.of(1, 3, 5));
+        SortedLinkedList<Integer> even = new SortedLinkedList<>(List.of(2, 4, 6));
+
+        //WHEN
+        List<Integer> firstItems = SortedLinkedList.mergeAll(List.of(odd, even)).limit(4).collect(Collectors.toList());
+
+        //THEN
+        assertEquals(List.of(1, 2, 3, 4), firstItems);
+        assertEquals(6, SortedLinkedList.mergeAll(List.of(odd, even)).count());
+    }
+
+    @Test
+    void shouldMergeEmptyInput() {
+        //GIVEN
+        List<SortedLinkedList<Integer>> lists = List.of(new SortedLinkedList<>(), new SortedLinkedList<>());
+
+        //WHEN
+        //THEN
+        assertEquals(0, SortedLinkedList.mergeAll(lists).count());
+        assertTrue(SortedLinkedList.mergeAllToList(lists).isEmpty());
+        assertTrue(SortedLinkedList.<Integer>mergeAllToList(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    void shouldRejectListsOfDifferentOrder() {
+        //GIVEN
+        List<SortedLinkedList<Integer>> lists = List.of(new SortedLinkedList<>(), new SortedLinkedList<>(true));
+
+        //WHEN
+        //THEN
+        assertThrows(IllegalArgumentException.class, () -> SortedLinkedList.mergeAll(lists));
+    }
+}
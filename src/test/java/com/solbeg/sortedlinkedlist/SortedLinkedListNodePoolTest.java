@@ -0,0 +1,131 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListNodePoolTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+    //GIVEN
+    Integer[] intsWithNulls;
+
+    SortedLinkedList<Integer> sut;
+
+    @BeforeEach
+    void init() {
+        sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false);
+        sut.setNodePoolCapacity(4);
+        intsWithNulls = new Integer[] {100, null, 4, 25, 17, null, 150, 11};
+    }
+
+    @Test
+    void shouldReuseRemovedNodes() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //WHEN
+        sut.remove(Integer.valueOf(17));
+        sut.remove(0);
+        sut.removeRange(Integer.valueOf(20), Integer.valueOf(200));
+        int pooledAfterRemove = sut.getPooledNodes();
+        sut.add(1);
+        sut.add(2);
+
+        //THEN
+        assertEquals(4, pooledAfterRemove);
+        assertEquals(2, sut.getPooledNodes());
+        assertEquals(Arrays.asList(1, 2, 11, null, null), sut.toList());
+    }
+
+    @Test
+    void shouldRefillAfterConstantTimeClear() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //WHEN
+        sut.clear();
+        boolean emptyAfterClear = sut.isEmpty();
+        Stream.of(intsWithNulls).forEach(sut::add);
+        sut.clear();
+        IntStream.range(0, 10).forEach(i -> sut.add(9 - i));
+
+        //THEN
+        assertTrue(emptyAfterClear);
+        assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), sut.toList());
+        assertEquals(9, sut.get(9));
+    }
+
+    @Test
+    void shouldKeepSnapshotNodesOutOfThePool() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+        SortedLinkedList.Snapshot<Integer> snapshot = sut.snapshot();
+
+        //WHEN
+        sut.remove(Integer.valueOf(4));
+        sut.clear();
+        IntStream.range(0, 20).forEach(sut::add);
+
+        //THEN
+        Arrays.sort(intsWithNulls, NULLS_LAST_COMPARATOR);
+        assertEquals(Arrays.asList(intsWithNulls), snapshot.toList());
+        assertEquals(20, sut.size());
+    }
+
+    @Test
+    void shouldReuseNodesOfIndexedList() {
+        //GIVEN
+        SortedLinkedList<Integer> indexed = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, true);
+        indexed.setNodePoolCapacity(100);
+        List<Integer> expected = new ArrayList<>();
+        int removed = 0;
+
+        //WHEN
+        for (int round = 0; round < 3; round++) {
+            expected.clear();
+            indexed.clear();
+            for (int i = 0; i < 200; i++) {
+                int item = (i * 37 + round) % 211;
+                indexed.add(item);
+                expected.add(item);
+            }
+            indexed.removeIf(item -> item % 3 == 0);
+            removed = expected.size();
+            expected.removeIf(item -> item % 3 == 0);
+            removed -= expected.size();
+        }
+
+        //THEN
+        expected.sort(NULLS_LAST_COMPARATOR);
+        assertEquals(expected, indexed.toList());
+        assertEquals(expected.get(50), indexed.get(50));
+        //the pool is drawn empty by every refill and then fed by the last removeIf
+        assertEquals(removed, indexed.getPooledNodes());
+    }
+
+    @Test
+    void shouldReleasePoolWhenDisabled() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+        sut.removeRange(0, 6);
+
+        //WHEN
+        sut.setNodePoolCapacity(0);
+
+        //THEN
+        assertEquals(0, sut.getPooledNodes());
+        assertThrows(IllegalArgumentException.class, () -> sut.setNodePoolCapacity(-1));
+    }
+}
@@ -0,0 +1,160 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListNullCountTest {
+
+    static final Integer[] INTS_WITH_NULLS = {100, null, 4, 25, 17, null, 150, 11, null};
+
+    @Test
+    void shouldReadNullsAtTheirPositions() {
+        for (AddNullsStrategy strategy : AddNullsStrategy.values()) {
+            for (boolean indexed : new boolean[] {false, true}) {
+                //GIVEN
+                SortedLinkedList<Integer> sut = new SortedLinkedList<>(strategy, false, indexed);
+                List<Integer> expected = sorted(strategy, INTS_WITH_NULLS);
+
+                //WHEN
+                Arrays.stream(INTS_WITH_NULLS).forEach(sut::add);
+
+                //THEN
+                assertEquals(expected.size(), sut.size());
+                assertEquals(expected, sut.toList());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i), sut.get(i));
+                }
+                assertEquals(expected.indexOf(null), sut.indexOf(null));
+                assertEquals(expected.indexOf(25), sut.indexOf(25));
+                assertEquals(expected, sut.stream().collect(Collectors.toList()));
+                assertEquals(expected, sut.parallelStream().collect(Collectors.toList()));
+                assertEquals(expected, sut.snapshot().toList());
+                assertEquals(expected.get(1), sut.snapshot().get(1));
+                assertEquals(expected.hashCode(), sut.hashCode());
+                assertThrows(IndexOutOfBoundsException.class, () -> sut.get(expected.size()));
+            }
+        }
+    }
+
+    @Test
+    void shouldRemoveNulls() {
+        for (AddNullsStrategy strategy : AddNullsStrategy.values()) {
+            //GIVEN
+            SortedLinkedList<Integer> sut = new SortedLinkedList<>(strategy, false, true);
+            Arrays.stream(INTS_WITH_NULLS).forEach(sut::add);
+            List<Integer> expected = sorted(strategy, INTS_WITH_NULLS);
+
+            //WHEN
+            Integer removedByValue = sut.remove((Integer) null);
+            expected.remove(null);
+            Integer removedByIndex = sut.remove(expected.indexOf(null));
+            expected.remove(expected.indexOf(null));
+            int removedByRange = sut.removeRange(2, 5);
+            expected.subList(2, 5).clear();
+
+            //THEN
+            assertNull(removedByValue);
+            assertNull(removedByIndex);
+            assertEquals(3, removedByRange);
+            assertEquals(expected, sut.toList());
+            assertTrue(sut.removeIf(item -> item == null || item > 100));
+            expected.removeIf(item -> item == null || item > 100);
+            assertEquals(expected, sut.toList());
+            assertNull(sut.remove((Integer) null));
+            assertEquals(expected.size(), sut.size());
+        }
+    }
+
+    @Test
+    void shouldCompareEqualToListWithNullNodes() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, true);
+        SortedLinkedList<Integer> other = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, true);
+
+        //WHEN
+        Arrays.stream(INTS_WITH_NULLS).forEach(sut::add);
+        other.addAll(Arrays.asList(INTS_WITH_NULLS));
+
+        //THEN
+        assertEquals(other, sut);
+        assertEquals(other.hashCode(), sut.hashCode());
+        assertEquals(List.of(150, 100, 25), sut.range(null, false, 25, true).toList());
+        assertEquals(Arrays.asList(null, null, null), sut.headView(150).toList());
+        assertEquals(3, sut.rank(150));
+        assertEquals(6, sut.tailView(150).size());
+    }
+
+    @Test
+    void shouldKeepNullsInRangesReachingThem() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, true);
+        Arrays.stream(INTS_WITH_NULLS).forEach(sut::add);
+
+        //WHEN
+        SortedLinkedList.RangeView<Integer> tail = sut.tailView(100);
+        SortedLinkedList.RangeView<Integer> nulls = sut.range(null, true, null, true);
+
+        //THEN
+        assertEquals(Arrays.asList(100, 150, null, null, null), tail.toList());
+        assertEquals(tail.toList(), tail.stream().collect(Collectors.toList()));
+        assertEquals(tail.toList(), tail.parallelStream().collect(Collectors.toList()));
+        assertEquals(5, tail.size());
+        assertEquals(3, nulls.size());
+        assertEquals(Arrays.asList(null, null, null), nulls.stream().collect(Collectors.toList()));
+        assertEquals(5, sut.removeRange(Integer.valueOf(11), (Integer) null));
+        assertEquals(Arrays.asList(4, null, null, null), sut.toList());
+    }
+
+    @Test
+    void shouldEvictNullsOfBoundedList() {
+        //GIVEN
+        List<Integer> evicted = new ArrayList<>();
+        SortedLinkedList<Integer> trailing = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, 3,
+                evicted::add);
+        SortedLinkedList<Integer> leading = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, false, 3,
+                item -> { });
+
+        //WHEN
+        Arrays.stream(INTS_WITH_NULLS).forEach(trailing::add);
+        leading.addAll(Arrays.asList(INTS_WITH_NULLS));
+
+        //THEN
+        assertEquals(List.of(4, 11, 17), trailing.toList());
+        assertEquals(INTS_WITH_NULLS.length - 3, evicted.size());
+        assertEquals(Arrays.asList(null, null, null), leading.toList());
+    }
+
+    @Test
+    void shouldMergeNulls() {
+        //GIVEN
+        SortedLinkedList<Integer> first = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, false);
+        SortedLinkedList<Integer> second = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, false);
+        first.addAll(Arrays.asList(3, null, 1));
+        second.addAll(Arrays.asList(null, 2));
+
+        //WHEN
+        List<Integer> merged = SortedLinkedList.mergeAll(List.of(first, second)).collect(Collectors.toList());
+
+        //THEN
+        assertEquals(Arrays.asList(null, null, 1, 2, 3), merged);
+        assertEquals(merged, SortedLinkedList.mergeAllToList(List.of(first, second)).toList());
+    }
+
+    private static List<Integer> sorted(AddNullsStrategy strategy, Integer[] items) {
+        List<Integer> sorted = new ArrayList<>(Arrays.asList(items));
+        sorted.sort(strategy == AddNullsStrategy.LEADING_NULLS
+                ? Comparator.nullsFirst(Comparator.naturalOrder())
+                : Comparator.nullsLast(Comparator.naturalOrder()));
+        return sorted;
+    }
+}
@@ -0,0 +1,80 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SortedLinkedListOrderStatisticsTest {
+
+    @Test
+    void shouldAnswerOrderStatisticsLikeSortedReference() {
+        for (boolean indexed : new boolean[] {false, true}) {
+            //GIVEN
+            Random random = new Random(5);
+            SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, indexed);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                Integer item = random.nextInt(2000);
+                sut.add(item);
+                expected.add(item);
+            }
+            Collections.sort(expected);
+
+            for (int i = 0; i < 200; i++) {
+                //WHEN
+                double q = random.nextDouble();
+                Integer probe = random.nextInt(2100);
+                Integer lo = random.nextInt(2000);
+                Integer hi = lo + random.nextInt(300);
+
+                //THEN
+                assertEquals(expected.get((int) Math.ceil(q * expected.size()) - 1), sut.quantile(q));
+                assertEquals(expected.stream().filter(item -> item < probe).count(), sut.rank(probe));
+                assertEquals(expected.stream().filter(item -> item >= lo && item <= hi).count(),
+                        sut.countBetween(lo, hi));
+            }
+            assertEquals(expected.get(0), sut.quantile(0));
+            assertEquals(expected.get(expected.size() - 1), sut.quantile(1));
+            assertEquals(expected.get(expected.size() / 2 - 1), sut.median());
+        }
+    }
+
+    @Test
+    void shouldRankNullsByStrategy() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, false, true);
+        sut.addAll(Arrays.asList(3, null, 1, null, 2));
+
+        //WHEN
+        //THEN
+        assertEquals(0, sut.rank(null));
+        assertEquals(2, sut.rank(1));
+        assertEquals(5, sut.rank(4));
+        assertEquals(3, sut.countBetween(null, 1));
+        assertEquals(1, sut.median());
+        assertNull(sut.quantile(0.4));
+    }
+
+    @Test
+    void shouldRejectInvalidQuantiles() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>();
+
+        //WHEN
+        //THEN
+        assertThrows(NoSuchElementException.class, sut::median);
+        sut.add(1);
+        assertThrows(IllegalArgumentException.class, () -> sut.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> sut.quantile(Double.NaN));
+        assertEquals(1, sut.quantile(0.999));
+    }
+}
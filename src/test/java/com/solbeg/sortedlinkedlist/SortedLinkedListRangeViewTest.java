@@ -0,0 +1,107 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListRangeViewTest {
+
+    static final Comparator<Integer> REVERSED_NULLS_FIRST_COMPARATOR = Comparator.nullsLast(Integer::compareTo).reversed();
+
+    @Test
+    void shouldMatchFilteredListForAllBounds() {
+        //GIVEN
+        Random random = new Random(13);
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            items.add(random.nextInt(20) == 0 ? null : random.nextInt(500));
+        }
+        for (boolean indexed : new boolean[] {false, true}) {
+            SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, indexed);
+            sut.addAll(items);
+            List<Integer> sorted = sut.toList();
+
+            for (int i = 0; i < 50; i++) {
+                //WHEN
+                int from = random.nextInt(520) - 10;
+                int to = from + random.nextInt(100);
+                boolean fromInclusive = random.nextBoolean();
+                boolean toInclusive = random.nextBoolean();
+                SortedLinkedList.RangeView<Integer> view = sut.range(from, fromInclusive, to, toInclusive);
+
+                //THEN
+                List<Integer> expected = sorted.stream()
+                        .filter(item -> item != null)
+                        .filter(item -> fromInclusive ? item >= from : item > from)
+                        .filter(item -> toInclusive ? item <= to : item < to)
+                        .collect(Collectors.toList());
+                assertEquals(expected, view.toList());
+                assertEquals(expected.size(), view.size());
+                assertEquals(expected.isEmpty(), view.isEmpty());
+                assertEquals(expected, view.stream().collect(Collectors.toList()));
+                assertEquals(expected, view.parallelStream().collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    void shouldViewHeadAndTailOfReversedList() {
+        //GIVEN
+        List<Integer> items = List.of(5, 1, 9, 3, 7, 3);
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, true, true);
+        sut.addAll(items);
+        sut.add(null);
+
+        //WHEN
+        SortedLinkedList.RangeView<Integer> head = sut.headView(5);
+        SortedLinkedList.RangeView<Integer> tail = sut.tailView(5);
+
+        //THEN
+        List<Integer> sorted = new ArrayList<>(items);
+        sorted.add(null);
+        sorted.sort(REVERSED_NULLS_FIRST_COMPARATOR);
+        assertEquals(sorted.subList(0, 3), head.toList());
+        assertEquals(List.of(5, 3, 3, 1), tail.toList());
+        assertEquals(4, tail.size());
+        assertTrue(tail.getSpliterator().getComparator().compare(9, 7) < 0);
+    }
+
+    @Test
+    void shouldReflectChangesOfTheList() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(List.of(10, 20, 30, 40));
+        SortedLinkedList.RangeView<Integer> view = sut.range(15, true, 35, true);
+
+        //WHEN
+        sut.add(25);
+        sut.remove(Integer.valueOf(20));
+        sut.add(35);
+
+        //THEN
+        assertEquals(List.of(25, 30, 35), view.toList());
+        sut.clear();
+        assertTrue(view.isEmpty());
+        assertEquals(0, view.size());
+        assertFalse(view.iterator().hasNext());
+    }
+
+    @Test
+    void shouldRejectInvertedRange() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(List.of(1, 2, 3));
+
+        //WHEN
+        //THEN
+        assertThrows(IllegalArgumentException.class, () -> sut.range(3, true, 1, true));
+        assertTrue(sut.range(2, false, 2, false).isEmpty());
+    }
+}
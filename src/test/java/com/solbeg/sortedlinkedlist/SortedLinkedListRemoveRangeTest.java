@@ -0,0 +1,115 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListRemoveRangeTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+
+    @Test
+    void shouldRemoveRangesLikeReferenceList() {
+        for (boolean indexed : new boolean[] {false, true}) {
+            //GIVEN
+            Random random = new Random(21);
+            SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, indexed);
+            List<Integer> expected = new ArrayList<>();
+
+            for (int round = 0; round < 300; round++) {
+                //WHEN
+                for (int i = 0; i < 20; i++) {
+                    Integer item = random.nextInt(30) == 0 ? null : random.nextInt(1000);
+                    sut.add(item);
+                    expected.add(item);
+                }
+                expected.sort(NULLS_LAST_COMPARATOR);
+                if (random.nextBoolean()) {
+                    int from = random.nextInt(expected.size() + 1);
+                    int to = from + random.nextInt(expected.size() - from + 1);
+                    assertEquals(to - from, sut.removeRange(from, to));
+                    expected.subList(from, to).clear();
+                } else {
+                    Integer fromKey = random.nextInt(1000);
+                    Integer toKey = fromKey + random.nextInt(50);
+                    int removed = sut.removeRange(fromKey, toKey);
+                    int before = expected.size();
+                    expected.removeIf(item -> item != null && item >= fromKey && item < toKey);
+                    assertEquals(before - removed, expected.size());
+                }
+
+                //THEN
+                assertEquals(expected, sut.toList());
+                assertEquals(expected.size(), sut.size());
+                int position = random.nextInt(expected.size());
+                assertEquals(expected.get(position), sut.get(position));
+            }
+        }
+    }
+
+    @Test
+    void shouldRemoveMatchingItemsInOnePass() {
+        for (boolean indexed : new boolean[] {false, true}) {
+            //GIVEN
+            SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, true, indexed);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                sut.add(i);
+                expected.add(0, i);
+            }
+            sut.add(null);
+
+            //WHEN
+            boolean removed = sut.removeIf(item -> item == null || item % 3 != 0 || item > 900);
+
+            //THEN
+            expected.removeIf(item -> item % 3 != 0 || item > 900);
+            assertTrue(removed);
+            assertEquals(expected, sut.toList());
+            assertEquals(expected.indexOf(300), sut.indexOf(300));
+            assertEquals(expected.get(100), sut.get(100));
+            assertFalse(sut.removeIf(item -> item > 900));
+            sut.add(1);
+            sut.add(999);
+            assertEquals(999, sut.get(0));
+            assertEquals(1, sut.get(sut.size() - 2));
+        }
+    }
+
+    @Test
+    void shouldKeepSnapshotWhenRemovingRange() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(List.of(1, 2, 3, 4, 5));
+        SortedLinkedList.Snapshot<Integer> snapshot = sut.snapshot();
+
+        //WHEN
+        sut.removeRange(Integer.valueOf(2), Integer.valueOf(4));
+        sut.removeIf(item -> item == 5);
+
+        //THEN
+        assertEquals(List.of(1, 4), sut.toList());
+        assertEquals(List.of(1, 2, 3, 4, 5), snapshot.toList());
+    }
+
+    @Test
+    void shouldRejectInvalidRanges() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(List.of(1, 2, 3));
+
+        //WHEN
+        //THEN
+        assertThrows(IndexOutOfBoundsException.class, () -> sut.removeRange(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> sut.removeRange(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> sut.removeRange(Integer.valueOf(3), Integer.valueOf(1)));
+        assertEquals(0, sut.removeRange(1, 1));
+        assertEquals(3, sut.size());
+    }
+}
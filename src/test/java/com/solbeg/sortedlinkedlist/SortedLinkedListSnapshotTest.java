@@ -0,0 +1,127 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListSnapshotTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+    //GIVEN
+    Integer[] intsWithNulls;
+
+    SortedLinkedList<Integer> sut;
+
+    @BeforeEach
+    void init() {
+        sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, true);
+        intsWithNulls = new Integer[] {100, null, 4, 25, 17, null, 150, 11};
+    }
+
+    @Test
+    void shouldKeepSnapshotUnchangedWhenListChanges() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+        Arrays.sort(intsWithNulls, NULLS_LAST_COMPARATOR);
+        List<Integer> expected = Arrays.asList(intsWithNulls);
+
+        //WHEN
+        SortedLinkedList.Snapshot<Integer> snapshot = sut.snapshot();
+        sut.add(1);
+        sut.remove(Integer.valueOf(25));
+        sut.remove(0);
+        sut.addAll(Arrays.asList(7, 8, 9));
+
+        //THEN
+        assertEquals(expected, snapshot.toList());
+        assertEquals(expected, snapshot.stream().collect(Collectors.toList()));
+        assertEquals(expected.size(), snapshot.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), snapshot.get(i));
+        }
+        List<Integer> current = new ArrayList<>(expected);
+        current.addAll(Arrays.asList(7, 8, 9));
+        current.remove(Integer.valueOf(25));
+        current.sort(NULLS_LAST_COMPARATOR);
+        assertEquals(current, sut.toList());
+        assertEquals(current.get(5), sut.get(5));
+    }
+
+    @Test
+    void shouldKeepSnapshotUnchangedWhenListIsCleared() {
+        //GIVEN
+        sut = new SortedLinkedList<>(Arrays.asList(intsWithNulls));
+        SortedLinkedList.Snapshot<Integer> snapshot = sut.snapshot();
+
+        //WHEN
+        sut.clear();
+        sut.add(5);
+
+        //THEN
+        assertEquals(intsWithNulls.length, snapshot.size());
+        assertEquals(4, snapshot.get(0));
+        assertEquals(List.of(5), sut.toList());
+    }
+
+    @Test
+    void shouldShareNodesBetweenSnapshotsUntilListChanges() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //WHEN
+        SortedLinkedList.Snapshot<Integer> first = sut.snapshot();
+        SortedLinkedList.Snapshot<Integer> second = sut.snapshot();
+        sut.add(0);
+        SortedLinkedList.Snapshot<Integer> third = sut.snapshot();
+
+        //THEN
+        assertEquals(first.toList(), second.toList());
+        assertEquals(first.size() + 1, third.size());
+        assertEquals(0, third.get(0));
+    }
+
+    @Test
+    void shouldRiseIndexOutOfBoundExceptionForEmptySnapshot() {
+        //GIVEN
+        //WHEN
+        SortedLinkedList.Snapshot<Integer> snapshot = sut.snapshot();
+
+        //THEN
+        assertTrue(snapshot.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(0));
+    }
+
+    @Test
+    void shouldKeepSnapshotUnchangedWhenNullsEvictFromBoundedList() {
+        for (boolean indexed : new boolean[] {false, true}) {
+            //GIVEN
+            sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, false, indexed, 3, item -> { });
+            Stream.of(1, 2, 3).forEach(sut::add);
+            SortedLinkedList.Snapshot<Integer> snapshot = sut.snapshot();
+
+            //WHEN
+            sut.add(null);
+            List<Integer> afterOneEviction = snapshot.toList();
+            sut.add(null);
+            sut.add(null);
+            sut.remove(null);
+            sut.add(7);
+
+            //THEN
+            assertEquals(List.of(1, 2, 3), afterOneEviction);
+            assertEquals(List.of(1, 2, 3), snapshot.toList());
+            assertEquals(Arrays.asList(null, null, 7), sut.toList());
+            assertEquals(2, sut.indexOf(7));
+        }
+    }
+}
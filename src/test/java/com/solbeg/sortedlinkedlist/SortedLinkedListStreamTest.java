@@ -0,0 +1,99 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListStreamTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+
+    @Test
+    void shouldCollectParallelStreamInOrder() {
+        //GIVEN
+        List<Integer> expected = randomInts(100_000);
+        SortedLinkedList<Integer> plain = new SortedLinkedList<>(expected);
+        SortedLinkedList<Integer> indexed = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, true);
+        indexed.addAll(expected);
+        expected.sort(NULLS_LAST_COMPARATOR);
+
+        //WHEN
+        List<Integer> fromPlain = plain.parallelStream().collect(Collectors.toList());
+        List<Integer> fromIndexed = indexed.parallelStream().collect(Collectors.toList());
+
+        //THEN
+        assertEquals(expected, fromPlain);
+        assertEquals(expected, fromIndexed);
+        long expectedSum = expected.stream().filter(i -> i != null).mapToLong(Integer::longValue).sum();
+        assertEquals(expectedSum, indexed.parallelStream().filter(i -> i != null).mapToLong(i -> i).sum());
+    }
+
+    @Test
+    void shouldSplitIntoHalvesWithoutLosingItems() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, true, true);
+        sut.addAll(randomInts(1001));
+
+        //WHEN
+        Spliterator<Integer> suffix = sut.getSpliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        //THEN
+        assertEquals(500, prefix.estimateSize());
+        assertEquals(501, suffix.estimateSize());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SORTED | Spliterator.SUBSIZED));
+        assertSame(prefix.getComparator(), suffix.getComparator());
+        List<Integer> joined = new ArrayList<>();
+        prefix.forEachRemaining(joined::add);
+        suffix.forEachRemaining(joined::add);
+        assertEquals(sut.toList(), joined);
+    }
+
+    @Test
+    void shouldNotSplitSingleItem() {
+        //GIVEN
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(List.of(1));
+
+        //WHEN
+        Spliterator<Integer> spliterator = sut.getSpliterator();
+
+        //THEN
+        assertNull(spliterator.trySplit());
+        assertEquals(1, spliterator.estimateSize());
+    }
+
+    @Test
+    void shouldStreamSnapshotInParallel() {
+        //GIVEN
+        List<Integer> expected = randomInts(50_000);
+        SortedLinkedList<Integer> sut = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, false, true);
+        sut.addAll(expected);
+        expected.sort(Comparator.nullsFirst(Integer::compareTo));
+
+        //WHEN
+        SortedLinkedList.Snapshot<Integer> snapshot = sut.snapshot();
+        sut.clear();
+
+        //THEN
+        assertEquals(expected, snapshot.parallelStream().collect(Collectors.toList()));
+    }
+
+    private static List<Integer> randomInts(int count) {
+        Random random = new Random(count);
+        List<Integer> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(random.nextInt(50) == 0 ? null : random.nextInt(count));
+        }
+        return result;
+    }
+}
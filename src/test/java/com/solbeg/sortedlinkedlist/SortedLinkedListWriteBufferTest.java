@@ -0,0 +1,175 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedListWriteBufferTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+    //GIVEN
+    Integer[] intsWithNulls;
+
+    SortedLinkedList<Integer> sut;
+
+    @BeforeEach
+    void init() {
+        sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false);
+        sut.setStagingBufferSize(4);
+        intsWithNulls = new Integer[] {100, null, 4, 25, 17, null, 150, 11};
+    }
+
+    @Test
+    void shouldMergeBufferBeforeOrderedReads() {
+        //GIVEN
+        SortedListMetrics metrics = new SortedListMetrics();
+        sut.setStagingBufferSize(100);
+        sut.setMetrics(metrics);
+
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+        int size = sut.size();
+        long flushesBeforeRead = metrics.getLatency(SortedListMetrics.Operation.FLUSH).getCount();
+        Integer first = sut.get(0);
+
+        //THEN
+        Arrays.sort(intsWithNulls, NULLS_LAST_COMPARATOR);
+        assertEquals(intsWithNulls.length, size);
+        assertEquals(0, flushesBeforeRead);
+        assertEquals(4, first);
+        assertEquals(1, metrics.getLatency(SortedListMetrics.Operation.FLUSH).getCount());
+        assertEquals(Arrays.asList(intsWithNulls), sut.toList());
+    }
+
+    @Test
+    void shouldMergeBufferWhenFull() {
+        //GIVEN
+        SortedListMetrics metrics = new SortedListMetrics();
+        sut.setMetrics(metrics);
+
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+        sut.add(3);
+
+        //THEN
+        SortedListMetrics.LatencyHistogram flushes = metrics.getLatency(SortedListMetrics.Operation.FLUSH);
+        assertEquals(2, flushes.getCount());
+        assertTrue(flushes.getTotalNanos() >= 0);
+        assertEquals(intsWithNulls.length + 1, sut.size());
+        assertEquals(3, sut.get(0));
+        assertEquals(3, flushes.getCount());
+    }
+
+    @Test
+    void shouldMergeBufferBeforeEveryKindOfRead() {
+        //GIVEN
+        List<Integer> expected = List.of(1, 2, 3);
+
+        //WHEN
+        //THEN
+        sut.add(3);
+        sut.add(1);
+        sut.add(2);
+        assertEquals(expected, sut.stream().collect(Collectors.toList()));
+        sut.add(0);
+        assertEquals(1, sut.indexOf(1));
+        sut.add(5);
+        assertEquals(5, sut.remove(Integer.valueOf(5)));
+        sut.add(4);
+        List<Integer> iterated = new ArrayList<>();
+        sut.iterator().forEachRemaining(iterated::add);
+        assertEquals(List.of(0, 1, 2, 3, 4), iterated);
+        sut.add(-1);
+        assertEquals(List.of(-1, 0, 1), sut.headView(2).toList());
+        sut.add(7);
+        assertEquals(7, sut.remove(sut.size() - 1));
+        sut.add(6);
+        assertEquals(List.of(-1, 0, 1, 2, 3, 4, 6), sut.snapshot().toList());
+    }
+
+    @Test
+    void shouldDiscardBufferOnClear() {
+        //GIVEN
+        sut.add(1);
+        sut.add(2);
+
+        //WHEN
+        sut.clear();
+
+        //THEN
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void shouldMergeBufferWhenDisabled() {
+        //GIVEN
+        sut.add(2);
+        sut.add(1);
+
+        //WHEN
+        sut.setStagingBufferSize(0);
+        sut.add(0);
+
+        //THEN
+        assertEquals(0, sut.getStagingBufferSize());
+        assertEquals(List.of(0, 1, 2), sut.toList());
+    }
+
+    @Test
+    void shouldApplyCapacityWhenBufferIsMerged() {
+        //GIVEN
+        List<Integer> evicted = new ArrayList<>();
+        SortedLinkedList<Integer> bounded = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, 3,
+                evicted::add);
+        bounded.setStagingBufferSize(10);
+
+        //WHEN
+        Stream.of(5, 1, 4, 2, 3).forEach(bounded::add);
+        List<Integer> kept = bounded.toList();
+
+        //THEN
+        assertEquals(List.of(1, 2, 3), kept);
+        assertEquals(List.of(4, 5), evicted);
+    }
+
+    @Test
+    void shouldMergeBufferOfIndexedList() {
+        //GIVEN
+        SortedLinkedList<Integer> indexed = new SortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, false, true);
+        for (int i = 0; i < 1000; i += 2) {
+            indexed.add(i);
+        }
+        indexed.setStagingBufferSize(8);
+
+        //WHEN
+        for (int i = 999; i > 0; i -= 2) {
+            indexed.add(i);
+        }
+        indexed.add(null);
+
+        //THEN
+        assertEquals(1001, indexed.size());
+        assertEquals(null, indexed.get(0));
+        assertEquals(500, indexed.get(501));
+        assertEquals(778, indexed.indexOf(777));
+    }
+
+    @Test
+    void shouldRejectNegativeBufferSize() {
+        //GIVEN
+        //WHEN
+        //THEN
+        assertThrows(IllegalArgumentException.class, () -> sut.setStagingBufferSize(-1));
+    }
+}
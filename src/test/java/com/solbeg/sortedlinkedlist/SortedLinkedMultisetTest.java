@@ -0,0 +1,111 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLinkedMultisetTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+    static final Comparator<Integer> REVERSED_NULLS_FIRST_COMPARATOR = Comparator.nullsLast(Integer::compareTo).reversed();
+    //GIVEN
+    Integer[] intsWithNulls;
+
+    SortedLinkedMultiset<Integer> sut;
+
+    @BeforeEach
+    void init() {
+        sut = new SortedLinkedMultiset<>();
+        intsWithNulls = new Integer[] {100, null, 4, 25, 17, null, 150, 11, 25, 4, 4};
+    }
+
+    @Test
+    void shouldCollapseDuplicatesAndExpandOnIteration() {
+        //GIVEN
+        //WHEN
+        sut.addAll(Arrays.asList(intsWithNulls));
+
+        //THEN
+        Arrays.sort(intsWithNulls, NULLS_LAST_COMPARATOR);
+        assertEquals(Arrays.asList(intsWithNulls), sut.toList());
+        assertEquals(Arrays.asList(intsWithNulls), sut.stream().collect(Collectors.toList()));
+        assertEquals(intsWithNulls.length, sut.size());
+        assertEquals(7, sut.distinctSize());
+        assertEquals(3, sut.count(4));
+        assertEquals(2, sut.count(null));
+        assertEquals(0, sut.count(5));
+    }
+
+    @Test
+    void shouldAddAndRemoveOccurrences() {
+        //GIVEN
+        sut = new SortedLinkedMultiset<>(AddNullsStrategy.LEADING_NULLS, true);
+        sut.addAll(Arrays.asList(intsWithNulls));
+
+        //WHEN
+        int before = sut.add(25, 1000);
+        boolean removedOne = sut.removeOne(4);
+        int removedAll = sut.removeAll(null);
+
+        //THEN
+        assertEquals(2, before);
+        assertTrue(removedOne);
+        assertEquals(2, removedAll);
+        assertEquals(1002, sut.count(25));
+        assertEquals(2, sut.count(4));
+        assertFalse(sut.contains(null));
+        assertFalse(sut.removeOne(null));
+        assertEquals(intsWithNulls.length + 1000 - 3, sut.size());
+        List<Integer> list = sut.toList();
+        List<Integer> sorted = new ArrayList<>(list);
+        sorted.sort(REVERSED_NULLS_FIRST_COMPARATOR);
+        assertEquals(sorted, list);
+    }
+
+    @Test
+    void shouldMatchReferenceListForRandomOperations() {
+        //GIVEN
+        Random random = new Random(17);
+        List<Integer> expected = new ArrayList<>();
+
+        //WHEN
+        for (int i = 0; i < 20_000; i++) {
+            Integer item = random.nextInt(10);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(item), sut.removeOne(item));
+            } else {
+                sut.add(item);
+                expected.add(item);
+            }
+        }
+
+        //THEN
+        expected.sort(NULLS_LAST_COMPARATOR);
+        assertEquals(expected, sut.toList());
+        assertTrue(sut.distinctSize() <= 10);
+        SortedLinkedMultiset<Integer> copy = new SortedLinkedMultiset<>(expected);
+        assertEquals(copy, sut);
+        assertEquals(copy.hashCode(), sut.hashCode());
+    }
+
+    @Test
+    void shouldRejectNegativeOccurrences() {
+        //GIVEN
+        //WHEN
+        //THEN
+        assertThrows(IllegalArgumentException.class, () -> sut.add(1, -1));
+        assertEquals(0, sut.add(1, 0));
+        assertTrue(sut.isEmpty());
+    }
+}
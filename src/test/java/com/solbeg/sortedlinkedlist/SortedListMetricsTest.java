@@ -0,0 +1,158 @@
+package com.solbeg.sortedlinkedlist;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedListMetricsTest {
+
+    SortedListMetrics metrics;
+
+    SortedLinkedList<Integer> sut;
+
+    @BeforeEach
+    void init() {
+        sut = new SortedLinkedList<>();
+        metrics = new SortedListMetrics();
+        sut.setMetrics(metrics);
+    }
+
+    @Test
+    void shouldCountFastPathsComparisonsAndTraversals() {
+        //GIVEN
+        sut.add(10);
+
+        //WHEN
+        sut.add(5);
+        sut.add(20);
+        sut.add(15, SortedLinkedList.Hint.HEAD);
+
+        //THEN
+        assertEquals(1, metrics.getHeadFastPathHits());
+        assertEquals(1, metrics.getTailFastPathHits());
+        //5: head; 20: head and tail; 15: head, tail, then 5, 10 and 20 walking forward from the head
+        assertEquals(1 + 2 + 2 + 3, metrics.getComparisons());
+        assertEquals(2, metrics.getNodesTraversed());
+        assertEquals(4, metrics.getLatency(SortedListMetrics.Operation.ADD).getCount());
+    }
+
+    @Test
+    void shouldStartInsertSearchFromLastInsertedNode() {
+        //GIVEN
+        for (int i = 0; i < 1000; i += 10) {
+            sut.add(i);
+        }
+        sut.add(495);
+        metrics.reset();
+
+        //WHEN
+        sut.add(485);
+
+        //THEN
+        //head, tail, then 495, 490 and 480 walking one node backward from the previous insert
+        assertEquals(5, metrics.getComparisons());
+        assertEquals(1, metrics.getNodesTraversed());
+    }
+
+    @Test
+    void shouldRecordLatenciesPerOperation() {
+        //GIVEN
+        sut.addAll(List.of(3, 1, 2, 5, 4));
+
+        //WHEN
+        sut.get(3);
+        sut.indexOf(4);
+        sut.remove(Integer.valueOf(2));
+        sut.remove(0);
+
+        //THEN
+        assertEquals(1, metrics.getLatency(SortedListMetrics.Operation.ADD_ALL).getCount());
+        assertEquals(1, metrics.getLatency(SortedListMetrics.Operation.GET).getCount());
+        assertEquals(1, metrics.getLatency(SortedListMetrics.Operation.INDEX_OF).getCount());
+        assertEquals(2, metrics.getLatency(SortedListMetrics.Operation.REMOVE).getCount());
+        SortedListMetrics.LatencyHistogram latency = metrics.getLatency(SortedListMetrics.Operation.REMOVE);
+        assertTrue(latency.getPercentileNanos(0.5) <= latency.getPercentileNanos(1.0));
+        assertTrue(latency.getMaxNanos() <= latency.getPercentileNanos(1.0));
+        assertEquals(List.of(3, 4, 5), sut.toList());
+    }
+
+    @Test
+    void shouldCountComparisonsOfIndexedList() {
+        //GIVEN
+        sut = new SortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, true);
+        sut.setMetrics(metrics);
+
+        //WHEN
+        for (int i = 0; i < 100; i++) {
+            sut.add(i);
+        }
+
+        //THEN
+        assertTrue(metrics.getComparisons() > 0);
+        assertEquals(0, metrics.getHeadFastPathHits() + metrics.getTailFastPathHits());
+        assertEquals(42, sut.indexOf(42));
+    }
+
+    @Test
+    void shouldStopRecordingWhenDisabled() {
+        //GIVEN
+        sut.add(1);
+
+        //WHEN
+        sut.setMetrics(null);
+        sut.add(2);
+        sut.add(0);
+
+        //THEN
+        assertNull(sut.getMetrics());
+        assertEquals(1, metrics.getLatency(SortedListMetrics.Operation.ADD).getCount());
+        assertEquals(List.of(0, 1, 2), sut.toList());
+    }
+
+    @Test
+    void shouldEmitFlightRecorderEventsForSlowOperations() throws Exception {
+        //GIVEN
+        sut.setMetrics(new SortedListMetrics(0, TimeUnit.NANOSECONDS));
+        Path file = Files.createTempFile("sorted-list", ".jfr");
+
+        //WHEN
+        try (Recording recording = new Recording()) {
+            recording.enable(SlowOperationEvent.class);
+            recording.start();
+            sut.add(1);
+            sut.get(0);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        //THEN
+        List<String> operations = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.solbeg.sortedlinkedlist.SlowOperation"))
+                .map(event -> event.getString("operation"))
+                .collect(Collectors.toList());
+        Files.delete(file);
+        assertEquals(List.of("ADD", "GET"), operations);
+        assertEquals(2, sut.getMetrics().getSlowOperations());
+    }
+
+    @Test
+    void shouldRejectNegativeThreshold() {
+        //GIVEN
+        //WHEN
+        //THEN
+        assertThrows(IllegalArgumentException.class, () -> new SortedListMetrics(-1, TimeUnit.MILLISECONDS));
+    }
+}
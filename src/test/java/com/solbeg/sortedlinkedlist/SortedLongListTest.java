@@ -0,0 +1,198 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedLongListTest {
+
+    static final long MISSING = Long.MIN_VALUE;
+    //GIVEN
+    long[] longs;
+    long[] longsWithMissing;
+
+    SortedLongList sut;
+
+    @BeforeEach
+    void init() {
+        sut = new SortedLongList();
+        longs = new long[] {100, 4, 25, 17, 150, 11, 25};
+        longsWithMissing = new long[] {100, MISSING, 4, 25, 17, MISSING, 150, 11};
+    }
+
+    @Test
+    void shouldAddInAscendingOrder() {
+        //GIVEN
+        //WHEN
+        LongStream.of(longs).forEach(sut::add);
+
+        //THEN
+        assertFalse(sut.isEmpty());
+        assertEquals(longs.length, sut.size());
+        Arrays.sort(longs);
+        assertArrayEquals(longs, sut.toArray());
+        assertArrayEquals(longs, sut.stream().toArray());
+    }
+
+    @Test
+    void shouldAddInDescendingOrder() {
+        //GIVEN
+        sut = new SortedLongList(true);
+
+        //WHEN
+        LongStream.of(longs).forEach(sut::add);
+
+        //THEN
+        long[] expected = LongStream.of(longs).boxed().sorted((a, b) -> Long.compare(b, a))
+                .mapToLong(Long::longValue).toArray();
+        assertArrayEquals(expected, sut.toArray());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], sut.get(i));
+        }
+    }
+
+    @Test
+    void shouldKeepMissingValuesAtTheTail() {
+        //GIVEN
+        sut = new SortedLongList(MissingValuePolicy.TRAILING_MISSING, MISSING, false);
+
+        //WHEN
+        LongStream.of(longsWithMissing).forEach(sut::add);
+
+        //THEN
+        assertEquals(longsWithMissing.length, sut.size());
+        assertEquals(2, sut.missingCount());
+        assertArrayEquals(new long[] {4, 11, 17, 25, 100, 150, MISSING, MISSING}, sut.toArray());
+        assertArrayEquals(sut.toArray(), sut.stream().toArray());
+        assertEquals(6, sut.indexOf(MISSING));
+    }
+
+    @Test
+    void shouldKeepMissingValuesAtTheHead() {
+        //GIVEN
+        sut = new SortedLongList(MissingValuePolicy.LEADING_MISSING, MISSING, false);
+
+        //WHEN
+        LongStream.of(longsWithMissing).forEach(sut::add);
+
+        //THEN
+        assertArrayEquals(new long[] {MISSING, MISSING, 4, 11, 17, 25, 100, 150}, sut.toArray());
+        assertArrayEquals(sut.toArray(), sut.stream().toArray());
+        assertEquals(MISSING, sut.get(1));
+        assertEquals(4, sut.get(2));
+        assertEquals(2, sut.indexOf(4));
+    }
+
+    @Test
+    void shouldRejectMissingValue() {
+        //GIVEN
+        sut = new SortedLongList(MissingValuePolicy.REJECT_MISSING, MISSING, false);
+
+        //WHEN
+        //THEN
+        assertThrows(IllegalArgumentException.class, () -> sut.add(MISSING));
+        assertTrue(sut.isEmpty());
+    }
+
+    @Test
+    void shouldRiseIndexOutOfBoundException() {
+        //GIVEN
+        //WHEN
+        LongStream.of(longs).forEach(sut::add);
+
+        //THEN
+        assertThrows(IndexOutOfBoundsException.class, () -> sut.get(longs.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> sut.get(-1));
+    }
+
+    @Test
+    void shouldRemoveByIndexAndValue() {
+        //GIVEN
+        sut = new SortedLongList(MissingValuePolicy.LEADING_MISSING, MISSING, false);
+        LongStream.of(longsWithMissing).forEach(sut::add);
+
+        //WHEN
+        long removedAtIndex = sut.removeAt(2);
+        boolean removedMissing = sut.removeValue(MISSING);
+        boolean removedValue = sut.removeValue(100);
+        boolean removedAbsent = sut.removeValue(1024);
+
+        //THEN
+        assertEquals(4, removedAtIndex);
+        assertTrue(removedMissing);
+        assertTrue(removedValue);
+        assertFalse(removedAbsent);
+        assertArrayEquals(new long[] {MISSING, 11, 17, 25, 150}, sut.toArray());
+    }
+
+    @Test
+    void shouldIterateInOrder() {
+        //GIVEN
+        LongStream.of(longs).forEach(sut::add);
+        Arrays.sort(longs);
+
+        //WHEN
+        PrimitiveIterator.OfLong iterator = sut.iterator();
+
+        //THEN
+        for (long value : longs) {
+            assertTrue(iterator.hasNext());
+            assertEquals(value, iterator.nextLong());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void shouldMergeBulkValues() {
+        //GIVEN
+        Random random = new Random(3);
+        long[] first = random.longs(1000, 0, 100).toArray();
+        long[] second = random.longs(1000, -50, 150).toArray();
+        sut = new SortedLongList(true);
+        LongStream.of(first).forEach(sut::add);
+
+        //WHEN
+        sut.addAll(second);
+
+        //THEN
+        long[] expected = LongStream.concat(LongStream.of(first), LongStream.of(second)).boxed()
+                .sorted((a, b) -> Long.compare(b, a)).mapToLong(Long::longValue).toArray();
+        assertArrayEquals(expected, sut.toArray());
+    }
+
+    @Test
+    void shouldBeEqualToListWithSameValues() {
+        //GIVEN
+        SortedLongList other = new SortedLongList();
+
+        //WHEN
+        sut.addAll(longs);
+        LongStream.of(longs).forEach(other::add);
+
+        //THEN
+        assertEquals(other, sut);
+        assertEquals(other.hashCode(), sut.hashCode());
+    }
+
+    @Test
+    void shouldClearList() {
+        //GIVEN
+        //WHEN
+        sut.addAll(longs);
+        sut.clear();
+
+        //THEN
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.stream().count());
+    }
+}
@@ -0,0 +1,136 @@
+package com.solbeg.sortedlinkedlist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UnrolledSortedLinkedListTest {
+
+    static final Comparator<Integer> NULLS_LAST_COMPARATOR = Comparator.nullsLast(Integer::compareTo);
+    static final Comparator<Integer> REVERSED_NULLS_FIRST_COMPARATOR = Comparator.nullsLast(Integer::compareTo).reversed();
+    //GIVEN
+    Integer[] intsWithNulls;
+
+    UnrolledSortedLinkedList<Integer> sut;
+
+    @BeforeEach
+    void init() {
+        sut = new UnrolledSortedLinkedList<>(AddNullsStrategy.TRAILING_NULLS, false, 4);
+        intsWithNulls = new Integer[] {100, null, 4, 25, 17, null, 150, 11, 25, 4, 63, 8, 1};
+    }
+
+    @Test
+    void shouldAddInAscendingOrder_TrailingNullsStrategy() {
+        //GIVEN
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //THEN
+        assertEquals(intsWithNulls.length, sut.size());
+        Arrays.sort(intsWithNulls, NULLS_LAST_COMPARATOR);
+        assertEquals(Arrays.asList(intsWithNulls), sut.toList());
+        assertEquals(Arrays.asList(intsWithNulls), sut.stream().collect(Collectors.toList()));
+        for (int i = 0; i < intsWithNulls.length; i++) {
+            assertEquals(intsWithNulls[i], sut.get(i));
+        }
+    }
+
+    @Test
+    void shouldAddInDescendingOrder_LeadingNullsStrategy() {
+        //GIVEN
+        sut = new UnrolledSortedLinkedList<>(AddNullsStrategy.LEADING_NULLS, true, 4);
+
+        //WHEN
+        sut.addAll(Arrays.asList(intsWithNulls));
+
+        //THEN
+        Arrays.sort(intsWithNulls, REVERSED_NULLS_FIRST_COMPARATOR);
+        assertEquals(Arrays.asList(intsWithNulls), sut.toList());
+    }
+
+    @Test
+    void shouldRejectTooSmallChunks() {
+        //GIVEN
+        //WHEN
+        //THEN
+        assertThrows(IllegalArgumentException.class,
+                () -> new UnrolledSortedLinkedList<Integer>(AddNullsStrategy.TRAILING_NULLS, false, 1));
+    }
+
+    @Test
+    void shouldRemoveAllElement_PresentsInCollection() {
+        //GIVEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //WHEN
+        for (Integer item : intsWithNulls) {
+            assertEquals(item, sut.remove(item));
+        }
+
+        //THEN
+        assertTrue(sut.isEmpty());
+        assertNull(sut.remove(Integer.valueOf(4)));
+    }
+
+    @Test
+    void shouldMatchReferenceListForRandomOperations() {
+        //GIVEN
+        Random random = new Random(5);
+        List<Integer> expected = new ArrayList<>();
+
+        //WHEN
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(5);
+            Integer value = random.nextInt(10) == 0 ? null : random.nextInt(300);
+            if (operation == 0 && !expected.isEmpty()) {
+                int idx = random.nextInt(expected.size());
+                assertEquals(expected.remove(idx), sut.remove(idx));
+            } else if (operation == 1) {
+                assertEquals(expected.remove(value) ? value : null, sut.remove(value));
+            } else if (operation == 2 && i % 500 == 0) {
+                List<Integer> batch = random.ints(200, 0, 300).boxed().collect(Collectors.toList());
+                expected.addAll(batch);
+                expected.sort(NULLS_LAST_COMPARATOR);
+                sut.addAll(batch);
+            } else {
+                expected.add(value);
+                expected.sort(NULLS_LAST_COMPARATOR);
+                sut.add(value);
+            }
+            if (!expected.isEmpty()) {
+                int idx = random.nextInt(expected.size());
+                assertEquals(expected.get(idx), sut.get(idx));
+                assertEquals(expected.indexOf(value), sut.indexOf(value));
+            }
+        }
+
+        //THEN
+        assertEquals(expected.size(), sut.size());
+        assertEquals(expected, sut.toList());
+    }
+
+    @Test
+    void shouldBeEqualToListWithSameItems() {
+        //GIVEN
+        UnrolledSortedLinkedList<Integer> other = new UnrolledSortedLinkedList<>(Arrays.asList(intsWithNulls));
+
+        //WHEN
+        Stream.of(intsWithNulls).forEach(sut::add);
+
+        //THEN
+        assertEquals(other, sut);
+        assertEquals(other.hashCode(), sut.hashCode());
+    }
+}